@@ -0,0 +1,124 @@
+package com.tarbonicar.backend.api.article.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tarbonicar.backend.api.article.entity.ArticleType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+// 게시글 목록 필터별 전체 개수(count) 캐시
+// 필터 조합(category_age_id 목록, articleType)을 정규화한 값을 키로 사용
+// 게시글 등록/수정/삭제 시 해당 게시글이 포함되는 필터의 개수를 증감하고, max-staleness 가 지나면 다시 조회
+@Component
+public class ArticleCountCache {
+
+    private final Cache<FilterKey, Long> cache;
+
+    public ArticleCountCache(
+            @Value("${article.count-cache.max-size:10000}") long maxSize,
+            @Value("${article.count-cache.max-staleness-seconds:60}") long maxStalenessSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(maxStalenessSeconds))
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss}, cache.size 등 메트릭 등록
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "articleCount");
+    }
+
+    // 캐시된 개수 조회, 없으면 countQuery 실행 후 저장
+    // carAgeIds 가 null 이면 카테고리 조건 없음
+    public long get(Collection<Long> carAgeIds, List<ArticleType> articleTypes, Supplier<Long> countQuery) {
+        FilterKey key = FilterKey.of(carAgeIds, articleTypes);
+        Long count = cache.get(key, k -> {
+            Long total = countQuery.get();
+            return (total == null) ? 0L : total; // NPE 방지용
+        });
+        return count;
+    }
+
+    // 게시글 등록 시 (트랜잭션 커밋 후 반영)
+    public void articleCreated(Long carAgeId, ArticleType articleType) {
+        afterCommit(() -> adjust(carAgeId, articleType, 1));
+    }
+
+    // 게시글 삭제 시 (트랜잭션 커밋 후 반영)
+    public void articleDeleted(Long carAgeId, ArticleType articleType) {
+        afterCommit(() -> adjust(carAgeId, articleType, -1));
+    }
+
+    // 게시글 카테고리/타입 변경 시 이전 필터에서 -1, 새로운 필터에서 +1
+    public void articleMoved(Long oldCarAgeId, ArticleType oldArticleType, Long newCarAgeId, ArticleType newArticleType) {
+        afterCommit(() -> {
+            adjust(oldCarAgeId, oldArticleType, -1);
+            adjust(newCarAgeId, newArticleType, 1);
+        });
+    }
+
+    // 여러 게시글이 한 번에 삭제되는 경우 (회원 탈퇴 등) 전체 무효화
+    public void invalidateAll() {
+        afterCommit(cache::invalidateAll);
+    }
+
+    private void adjust(Long carAgeId, ArticleType articleType, long delta) {
+        for (FilterKey key : cache.asMap().keySet()) {
+            if (key.matches(carAgeId, articleType)) {
+                cache.asMap().computeIfPresent(key, (k, count) -> Math.max(count + delta, 0));
+            }
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // 정규화된 필터 키 (목록은 중복 제거 후 정렬, carAgeIds 가 null 이면 카테고리 조건 없음)
+    private record FilterKey(List<Long> carAgeIds, List<ArticleType> articleTypes) {
+
+        static FilterKey of(Collection<Long> carAgeIds, List<ArticleType> articleTypes) {
+            return new FilterKey(
+                    (carAgeIds == null) ? null : normalize(carAgeIds),
+                    normalize(articleTypes)
+            );
+        }
+
+        // 해당 카테고리/타입의 게시글이 이 필터 결과에 포함되는지 여부
+        boolean matches(Long carAgeId, ArticleType articleType) {
+            return (carAgeIds == null || carAgeIds.contains(carAgeId))
+                    && (articleTypes.isEmpty() || articleTypes.contains(articleType));
+        }
+
+        private static <T extends Comparable<? super T>> List<T> normalize(Collection<T> values) {
+            if (values == null) {
+                return List.of();
+            }
+            return values.stream()
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .sorted()
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.tarbonicar.backend.api.article.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tarbonicar.backend.api.article.event.ArticleChangedEvent;
+import com.tarbonicar.backend.api.member.event.MemberChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+// 게시글 상세 조회 캐시
+// 사용자와 무관하고 자주 바뀌지 않는 게시글 정보만 저장하고, 좋아요/댓글 수와 좋아요/작성자 여부는 요청마다 따로 계산
+// 게시글 수정/삭제, 작성자 정보 변경 이벤트가 커밋된 후 무효화
+@Component
+public class ArticleDetailCache {
+
+    private final Cache<Long, Entry> cache;
+
+    public ArticleDetailCache(
+            @Value("${article.detail-cache.max-size:1000}") long maxSize,
+            @Value("${article.detail-cache.ttl-seconds:300}") long ttlSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "articleDetail");
+    }
+
+    // 캐시된 게시글 조회, 없으면 loader 로 조회 후 저장 (게시글이 없으면 null)
+    // 조회 중에 무효화되면 조회가 끝난 뒤 제거되므로, 무효화 이전에 읽은 값이 무효화 이후에 저장되지 않음
+    // viewCount : 캐시 저장 시점의 조회수 (DB 값 + 아직 반영되지 않은 조회수)
+    public Entry get(Long articleId, Function<Long, ArticleDetailSnapshot> loader, ToLongFunction<ArticleDetailSnapshot> viewCount) {
+        return cache.get(articleId, id -> {
+            ArticleDetailSnapshot snapshot = loader.apply(id);
+            return (snapshot == null) ? null : new Entry(snapshot, viewCount.applyAsLong(snapshot));
+        });
+    }
+
+    public void evict(Long articleId) {
+        cache.invalidate(articleId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        evict(event.getArticleId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        cache.asMap().values().removeIf(entry -> event.getMemberId().equals(entry.getSnapshot().getMemberId()));
+    }
+
+    @Getter
+    public static class Entry {
+
+        private final ArticleDetailSnapshot snapshot;
+        private final AtomicLong viewCount;
+
+        private Entry(ArticleDetailSnapshot snapshot, long viewCount) {
+            this.snapshot = snapshot;
+            this.viewCount = new AtomicLong(viewCount);
+        }
+
+        // 캐시된 게시글 조회 시 조회수 1 증가 후 반환 (DB 반영 여부와 관계없이 단조 증가)
+        public long recordView() {
+            return viewCount.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.tarbonicar.backend.api.article.cache;
+
+import com.tarbonicar.backend.api.article.entity.ArticleType;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 게시글 상세 조회 캐시에 저장되는 사용자와 무관한 게시글 정보
+// 좋아요 / 댓글 수는 자주 바뀌므로 저장하지 않고 요청마다 조회 (ArticleDetailCountDTO)
+@Getter
+public class ArticleDetailSnapshot {
+
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final long viewCount;
+    private final ArticleType articleType;
+    private final LocalDateTime createdAt;
+    private final boolean modify;
+
+    private final Long memberId;
+    private final String nickname;
+    private final String profileImage;
+
+    private final String carType;
+    private final String carName;
+    private final int carAge;
+
+    // QueryDSL Projection 용 생성자
+    public ArticleDetailSnapshot(Long id, String title, String content, Long viewCount,
+                                 ArticleType articleType, LocalDateTime createdAt, Boolean modify,
+                                 Long memberId, String nickname, String profileImage,
+                                 String carType, String carName, Integer carAge) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.viewCount = viewCount;
+        this.articleType = articleType;
+        this.createdAt = createdAt;
+        this.modify = modify;
+        this.memberId = memberId;
+        this.nickname = nickname;
+        this.profileImage = profileImage;
+        this.carType = carType;
+        this.carName = carName;
+        this.carAge = carAge;
+    }
+}
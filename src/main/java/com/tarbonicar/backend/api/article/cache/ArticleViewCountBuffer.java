@@ -0,0 +1,111 @@
+package com.tarbonicar.backend.api.article.cache;
+
+import com.tarbonicar.backend.api.article.repository.ArticleRepository;
+import com.tarbonicar.backend.api.article.service.ArticleHotScoreCalculator;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 게시글 조회수 쓰기 지연(write-behind) 버퍼
+// 조회 시에는 게시글별 LongAdder 에만 누적하고, 주기적으로 모아서 UPDATE ... CASE 로 일괄 반영
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleViewCountBuffer {
+
+    private final ArticleRepository articleRepository;
+    private final ArticleHotScoreCalculator hotScoreCalculator;
+
+    private final ConcurrentHashMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+
+    // DB 반영 중인 증가분 (반영 도중에도 상세 조회의 조회수가 줄어들지 않도록)
+    private final ConcurrentHashMap<Long, Long> inFlight = new ConcurrentHashMap<>();
+
+    // 직전 flush 에서 맵에서 제거한 카운터 (제거 직전에 참조를 얻은 요청의 증가분을 다음 flush 에서 회수)
+    private Map<Long, LongAdder> retired = new HashMap<>();
+
+    @Value("${article.view-count.flush-batch-size:500}")
+    private int batchSize;
+
+    // 조회수 1 증가 (DB 반영 전까지 메모리에 누적)
+    public void increment(Long articleId) {
+        counters.computeIfAbsent(articleId, id -> new LongAdder()).increment();
+    }
+
+    // 아직 DB 에 반영되지 않은 조회수
+    public long pending(Long articleId) {
+        LongAdder adder = counters.get(articleId);
+        long buffered = (adder == null) ? 0 : adder.sum();
+        return buffered + inFlight.getOrDefault(articleId, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${article.view-count.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    // 애플리케이션 종료 시 남은 조회수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        // 종료 직전 제거된 카운터까지 반영
+        flush();
+    }
+
+    public synchronized void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+
+        for (Map.Entry<Long, LongAdder> entry : retired.entrySet()) {
+            addDelta(deltas, entry.getKey(), entry.getValue().sumThenReset());
+        }
+        retired = new HashMap<>();
+
+        for (Map.Entry<Long, LongAdder> entry : counters.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                addDelta(deltas, entry.getKey(), delta);
+            } else if (counters.remove(entry.getKey(), entry.getValue())) {
+                // 한 주기 동안 조회가 없던 게시글은 맵에서 제거
+                retired.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+        for (int from = 0; from < entries.size(); from += batchSize) {
+            List<Map.Entry<Long, Long>> chunk = entries.subList(from, Math.min(from + batchSize, entries.size()));
+            Map<Long, Long> chunkDeltas = new HashMap<>();
+            chunk.forEach(e -> chunkDeltas.put(e.getKey(), e.getValue()));
+
+            inFlight.putAll(chunkDeltas);
+            try {
+                articleRepository.addViewCounts(chunkDeltas, hotScoreCalculator.boostNow(), hotScoreCalculator.getViewWeight());
+            } catch (Exception e) {
+                // 반영 실패 시 다음 주기에 다시 시도하도록 버퍼에 되돌림
+                log.warn("게시글 조회수 반영 실패, 다음 주기에 재시도: {}", e.getMessage());
+                chunkDeltas.forEach((id, delta) -> counters.computeIfAbsent(id, k -> new LongAdder()).add(delta));
+            } finally {
+                chunkDeltas.keySet().forEach(inFlight::remove);
+            }
+        }
+    }
+
+    private void addDelta(Map<Long, Long> deltas, Long articleId, long delta) {
+        if (delta > 0) {
+            deltas.merge(articleId, delta, Long::sum);
+        }
+    }
+}
@@ -4,18 +4,22 @@ import com.tarbonicar.backend.api.article.dto.*;
 import com.tarbonicar.backend.api.article.entity.ArticleType;
 import com.tarbonicar.backend.api.article.entity.SortType;
 import com.tarbonicar.backend.api.article.service.ArticleService;
+import com.tarbonicar.backend.api.jwt.MemberPrincipal;
 import com.tarbonicar.backend.common.response.ApiResponse;
+import com.tarbonicar.backend.common.response.CursorResponse;
 import com.tarbonicar.backend.common.response.SuccessStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -34,54 +38,143 @@ public class ArticleController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "게시글 등록 성공")
     })
     @PostMapping
-    public ResponseEntity<ApiResponse<Long>> createArticle(@RequestBody ArticleCreateDTO articleCreateDTO, @AuthenticationPrincipal UserDetails userDetails){
+    public ResponseEntity<ApiResponse<Long>> createArticle(@RequestBody ArticleCreateDTO articleCreateDTO, @AuthenticationPrincipal MemberPrincipal principal){
 
-        Long id = articleService.createArticle(articleCreateDTO, userDetails.getUsername());
+        Long id = articleService.createArticle(articleCreateDTO, principal.getMemberId());
         return ApiResponse.success(SuccessStatus.CREATE_ARTICLE_SUCCESS, id);
     }
 
     @Operation(
-            summary = "게시글 목록 조회 API", description = "등록된 게시글 목록을 조회 합니다.")
+            summary = "게시글 목록 조회 API",
+            description = "등록된 게시글 목록을 조회 합니다. <br>" + "categoryId(차량 연식 카테고리 ID)로 바로 필터링할 수 있으며, 이름 조건과 함께 주면 모두 만족하는 게시글만 조회합니다. <br>" + "slice = true 이면 전체 개수 없이 content, page, size, hasNext 만 반환합니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공")
     })
     @GetMapping("/list")
-    public ResponseEntity<ApiResponse<Page<ArticleResponseDTO>>> getArticle(
+    public ResponseEntity<?> getArticle(
             @RequestParam(required = false) String carType,
             @RequestParam(required = false) List<String> carName,
             @RequestParam(required = false) List<Integer> carAge,
+            @RequestParam(required = false) List<Long> categoryId,
             @RequestParam(required = false) List<ArticleType> articleType,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(required = false, defaultValue = "RECENT") SortType sortType,
-            @AuthenticationPrincipal UserDetails userDetails
+            @RequestParam(defaultValue = "false") boolean slice,
+            @AuthenticationPrincipal MemberPrincipal principal
     ) {
 
-        String userEmail = (userDetails != null) ? userDetails.getUsername() : null;
+        Long memberId = (principal != null) ? principal.getMemberId() : null;
 
         PageRequest pageRequest = PageRequest.of(page, size);
-        Page<ArticleResponseDTO> articleResponseDTO = articleService.getArticle(carType, carName, carAge, articleType, sortType, pageRequest, userEmail);
+        if (slice) {
+            Slice<ArticleResponseDTO> articleSlice = articleService.getArticleSlice(carType, carName, carAge, categoryId, articleType, sortType, pageRequest, memberId);
+            return ApiResponse.success_slice(SuccessStatus.SEND_ARTICLE_SUCCESS, articleSlice);
+        }
+
+        Page<ArticleResponseDTO> articleResponseDTO = articleService.getArticle(carType, carName, carAge, categoryId, articleType, sortType, pageRequest, memberId);
         return ApiResponse.success(SuccessStatus.SEND_ARTICLE_SUCCESS, articleResponseDTO);
     }
 
     @Operation(
-            summary = "내가 작성한 게시글 목록 조회 API", description = "내가 작성한 게시글 목록을 조회 합니다.")
+            summary = "게시글 목록 커서 조회 API",
+            description = "등록된 게시글 목록을 커서 기반으로 조회 합니다. <br>" + "첫 페이지는 cursor 없이 요청하고, 이후에는 응답의 nextCursor / prevCursor 값을 그대로 전달합니다. <br>" + "커서는 발급 시의 sortType 과 같은 sortType 으로만 사용할 수 있습니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공")
+    })
+    @GetMapping("/list/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<ArticleResponseDTO>>> getArticleByCursor(
+            @RequestParam(required = false) String carType,
+            @RequestParam(required = false) List<String> carName,
+            @RequestParam(required = false) List<Integer> carAge,
+            @RequestParam(required = false) List<Long> categoryId,
+            @RequestParam(required = false) List<ArticleType> articleType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(CursorResponse.MAX_SIZE) int size,
+            @RequestParam(required = false, defaultValue = "RECENT") SortType sortType,
+            @AuthenticationPrincipal MemberPrincipal principal
+    ) {
+
+        Long memberId = (principal != null) ? principal.getMemberId() : null;
+
+        CursorResponse<ArticleResponseDTO> articleResponseDTO = articleService.getArticleByCursor(carType, carName, carAge, categoryId, articleType, sortType, cursor, size, memberId);
+        return ApiResponse.success(SuccessStatus.SEND_ARTICLE_SUCCESS, articleResponseDTO);
+    }
+
+    @Operation(
+            summary = "게시글 검색 API",
+            description = "제목과 내용에 검색어가 포함된 게시글을 조회 합니다. <br>" + "차량 카테고리, 게시글 타입 필터와 정렬 기준을 함께 사용할 수 있습니다. <br>" + "slice = true 이면 전체 개수 없이 content, page, size, hasNext 만 반환합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "게시글 검색 성공")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<?> searchArticle(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String carType,
+            @RequestParam(required = false) List<String> carName,
+            @RequestParam(required = false) List<Integer> carAge,
+            @RequestParam(required = false) List<Long> categoryId,
+            @RequestParam(required = false) List<ArticleType> articleType,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false, defaultValue = "RECENT") SortType sortType,
+            @RequestParam(defaultValue = "false") boolean slice,
+            @AuthenticationPrincipal MemberPrincipal principal
+    ) {
+
+        Long memberId = (principal != null) ? principal.getMemberId() : null;
+
+        PageRequest pageRequest = PageRequest.of(page, size);
+        if (slice) {
+            Slice<ArticleResponseDTO> articleSlice = articleService.searchArticleSlice(keyword, carType, carName, carAge, categoryId, articleType, sortType, pageRequest, memberId);
+            return ApiResponse.success_slice(SuccessStatus.SEARCH_ARTICLE_SUCCESS, articleSlice);
+        }
+
+        Page<ArticleResponseDTO> articleResponseDTO = articleService.searchArticle(keyword, carType, carName, carAge, categoryId, articleType, sortType, pageRequest, memberId);
+        return ApiResponse.success(SuccessStatus.SEARCH_ARTICLE_SUCCESS, articleResponseDTO);
+    }
+
+    @Operation(
+            summary = "내가 작성한 게시글 목록 조회 API",
+            description = "내가 작성한 게시글 목록을 조회 합니다. <br>" + "slice = true 이면 전체 개수 없이 content, page, size, hasNext 만 반환합니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "내가 작성한 게시글 목록 조회 성공")
     })
     @GetMapping("/my-list")
-    public ResponseEntity<ApiResponse<Page<ArticleResponseDTO>>> getMyArticle(
+    public ResponseEntity<?> getMyArticle(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(required = false, defaultValue = "RECENT") SortType sortType,
-            @AuthenticationPrincipal UserDetails userDetails
+            @RequestParam(defaultValue = "false") boolean slice,
+            @AuthenticationPrincipal MemberPrincipal principal
     ) {
 
         PageRequest pageRequest = PageRequest.of(page, size);
-        Page<ArticleResponseDTO> articleResponseDTO = articleService.getMyArticle(sortType, pageRequest, userDetails.getUsername());
+        if (slice) {
+            Slice<ArticleResponseDTO> articleSlice = articleService.getMyArticleSlice(sortType, pageRequest, principal.getMemberId());
+            return ApiResponse.success_slice(SuccessStatus.SEND_ARTICLE_SUCCESS, articleSlice);
+        }
+
+        Page<ArticleResponseDTO> articleResponseDTO = articleService.getMyArticle(sortType, pageRequest, principal.getMemberId());
         return ApiResponse.success(SuccessStatus.SEND_ARTICLE_SUCCESS, articleResponseDTO);
     }
 
+    @Operation(
+            summary = "내가 작성한 게시글 목록 커서 조회 API", description = "내가 작성한 게시글 목록을 커서 기반으로 조회 합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "내가 작성한 게시글 목록 조회 성공")
+    })
+    @GetMapping("/my-list/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<ArticleResponseDTO>>> getMyArticleByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(CursorResponse.MAX_SIZE) int size,
+            @RequestParam(required = false, defaultValue = "RECENT") SortType sortType,
+            @AuthenticationPrincipal MemberPrincipal principal
+    ) {
+
+        CursorResponse<ArticleResponseDTO> articleResponseDTO = articleService.getMyArticleByCursor(sortType, cursor, size, principal.getMemberId());
+        return ApiResponse.success(SuccessStatus.SEND_ARTICLE_SUCCESS, articleResponseDTO);
+    }
 
     @Operation(
             summary = "게시글 상세 조회 API", description = "게시글을 상세 조회 합니다.")
@@ -89,11 +182,11 @@ public class ArticleController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "게시글 상세 조회 성공")
     })
     @GetMapping
-    public ResponseEntity<ApiResponse<ArticleDetailResponseDTO>> getArticleDetail(@RequestParam Long articleId, @AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<ApiResponse<ArticleDetailResponseDTO>> getArticleDetail(@RequestParam Long articleId, @AuthenticationPrincipal MemberPrincipal principal) {
 
-        String userEmail = (userDetails != null) ? userDetails.getUsername() : null;
+        Long memberId = (principal != null) ? principal.getMemberId() : null;
 
-        ArticleDetailResponseDTO articleDetailResponseDTO = articleService.getArticleDetail(articleId, userEmail);
+        ArticleDetailResponseDTO articleDetailResponseDTO = articleService.getArticleDetail(articleId, memberId);
         return ApiResponse.success(SuccessStatus.SEND_ARTICLE_DETAIL_SUCCESS, articleDetailResponseDTO);
     }
 
@@ -103,9 +196,9 @@ public class ArticleController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "게시글 수정 성공")
     })
     @PutMapping
-    public ResponseEntity<ApiResponse<Void>> modifyArticle(@RequestBody ArticleUpdateDTO articleUpdateDTO, @AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<ApiResponse<Void>> modifyArticle(@RequestBody ArticleUpdateDTO articleUpdateDTO, @AuthenticationPrincipal MemberPrincipal principal) {
 
-        articleService.modifyArticle(articleUpdateDTO, userDetails.getUsername());
+        articleService.modifyArticle(articleUpdateDTO, principal.getMemberId());
         return ApiResponse.success_only(SuccessStatus.MODIFY_ARTICLE_SUCCESS);
     }
 
@@ -115,30 +208,45 @@ public class ArticleController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "게시글 삭제 성공")
     })
     @DeleteMapping("/{articleId}")
-    public ResponseEntity<ApiResponse<Void>> deleteArticle(@PathVariable Long articleId, @AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<ApiResponse<Void>> deleteArticle(@PathVariable Long articleId, @AuthenticationPrincipal MemberPrincipal principal) {
 
-        articleService.deleteArticle(articleId, userDetails.getUsername());
+        articleService.deleteArticle(articleId, principal.getMemberId());
         return ApiResponse.success_only(SuccessStatus.DELETE_ARTICLE_SUCCESS);
     }
 
-    @Operation(summary = "게시글 좋아요 토글 API", description = "게시글 좋아요 등록/해제를 합니다.")
+    @Operation(summary = "게시글 좋아요 토글 API", description = "게시글 좋아요 등록/해제를 하고, 변경된 좋아요 상태와 좋아요 수를 반환합니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "좋아요 토글 성공")
     })
     @PostMapping("/like/{articleId}")
-    public ResponseEntity<ApiResponse<Void>> likeArticle(@PathVariable Long articleId, @AuthenticationPrincipal UserDetails userDetails){
+    public ResponseEntity<ApiResponse<ArticleLikeResponseDTO>> likeArticle(@PathVariable Long articleId, @AuthenticationPrincipal MemberPrincipal principal){
+
+        ArticleLikeResponseDTO articleLikeResponseDTO = articleService.likeArticle(articleId, principal.getMemberId());
+        return ApiResponse.success(SuccessStatus.SEND_ARTICLE_LIKE_SUCCESS, articleLikeResponseDTO);
+    }
+
+    @Operation(
+            summary = "게시글 좋아요 여부 일괄 조회 API", description = "전달한 게시글 ID 목록에 대해 내가 좋아요를 눌렀는지 여부를 반환합니다. (최대 100개)")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "게시글 좋아요 여부 조회 성공")
+    })
+    @GetMapping("/like-status")
+    public ResponseEntity<ApiResponse<List<ArticleLikeStatusDTO>>> getLikeStatus(
+            @RequestParam List<Long> ids,
+            @AuthenticationPrincipal MemberPrincipal principal
+    ) {
 
-        articleService.likeArticle(articleId, userDetails.getUsername());
-        return ApiResponse.success_only(SuccessStatus.SEND_ARTICLE_LIKE_SUCCESS);
+        List<ArticleLikeStatusDTO> likeStatus = articleService.getLikeStatus(ids, principal.getMemberId());
+        return ApiResponse.success(SuccessStatus.SEND_ARTICLE_LIKE_STATUS_SUCCESS, likeStatus);
     }
 
     @Operation(
             summary = "내가 작성한 게시글 수 조회 API", description = "내가 작성한 게시글 수를 반환합니다.")
     @GetMapping("/my-count")
     public ResponseEntity<ApiResponse<Integer>> getMyArticleCount(
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal MemberPrincipal principal
     ) {
-        int count = articleService.countMyArticles(userDetails.getUsername());
+        int count = articleService.countMyArticles(principal.getUsername());
         return ApiResponse.success(SuccessStatus.SEND_ARTICLE_SUCCESS, count);
     }
 
@@ -147,9 +255,9 @@ public class ArticleController {
     )
     @GetMapping("/my-like-count")
     public ResponseEntity<ApiResponse<Integer>> getMyTotalLikes(
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal MemberPrincipal principal
     ) {
-        int totalLikes = articleService.countMyTotalLikes(userDetails.getUsername());
+        int totalLikes = articleService.countMyTotalLikes(principal.getUsername());
         return ApiResponse.success(SuccessStatus.SEND_ARTICLE_SUCCESS, totalLikes);
     }
 }
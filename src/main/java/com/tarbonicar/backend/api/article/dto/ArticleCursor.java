@@ -0,0 +1,91 @@
+package com.tarbonicar.backend.api.article.dto;
+
+import com.tarbonicar.backend.api.article.entity.SortType;
+import com.tarbonicar.backend.common.exception.BadRequestException;
+import com.tarbonicar.backend.common.response.ErrorStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 게시글 목록 커서(Keyset) 페이징용 커서
+// 정렬 기준 값 + 게시글 ID 를 Base64 로 인코딩하여 클라이언트에는 불투명한 문자열로 전달
+@Getter
+@AllArgsConstructor
+public class ArticleCursor {
+
+    private static final String DELIMITER = "|";
+    private static final String NEXT = "N";
+    private static final String PREV = "P";
+
+    private final SortType sortType;
+    private final boolean backward; // 이전 페이지 방향이면 true
+    private final String key;       // 정렬 기준 값 (createdAt / likeCount / viewCount / hotScore)
+    private final Long id;
+
+    public static ArticleCursor next(SortType sortType, ArticleResponseDTO article) {
+        return new ArticleCursor(sortType, false, keyOf(sortType, article), article.getId());
+    }
+
+    public static ArticleCursor prev(SortType sortType, ArticleResponseDTO article) {
+        return new ArticleCursor(sortType, true, keyOf(sortType, article), article.getId());
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER, backward ? PREV : NEXT, sortType.name(), key, String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ArticleCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 4 || !(NEXT.equals(parts[0]) || PREV.equals(parts[0]))) {
+                throw new BadRequestException(ErrorStatus.INVALID_CURSOR_EXCEPTION.getMessage());
+            }
+
+            ArticleCursor decoded = new ArticleCursor(SortType.valueOf(parts[1]), PREV.equals(parts[0]), parts[2], Long.parseLong(parts[3]));
+            // 정렬 기준 값 형식 검증
+            decoded.validateKey();
+            return decoded;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException(ErrorStatus.INVALID_CURSOR_EXCEPTION.getMessage());
+        }
+    }
+
+    public LocalDateTime getDateTimeKey() {
+        return LocalDateTime.parse(key);
+    }
+
+    public Long getLongKey() {
+        return Long.parseLong(key);
+    }
+
+    public Double getDoubleKey() {
+        return Double.parseDouble(key);
+    }
+
+    private void validateKey() {
+        switch (sortType) {
+            case RECENT, OLDEST -> getDateTimeKey();
+            case MOSTLIKED, MOSTVIEW -> getLongKey();
+            case HOT -> getDoubleKey();
+        }
+    }
+
+    private static String keyOf(SortType sortType, ArticleResponseDTO article) {
+        return switch (sortType) {
+            case RECENT, OLDEST -> article.getCreateAt().toString();
+            case MOSTLIKED -> String.valueOf(article.getLikeCount());
+            case MOSTVIEW -> String.valueOf(article.getViewCount());
+            case HOT -> String.valueOf(article.getHotScore());
+        };
+    }
+}
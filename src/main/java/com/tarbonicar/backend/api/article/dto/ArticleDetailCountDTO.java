@@ -0,0 +1,14 @@
+package com.tarbonicar.backend.api.article.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글 상세 조회 시 요청마다 조회하는 값 (자주 바뀌므로 상세 캐시에 저장하지 않음)
+@Getter
+@AllArgsConstructor
+public class ArticleDetailCountDTO {
+
+    private long likeCount;
+    private long commentCount;
+    private boolean myLike; // 조회한 사용자의 좋아요 여부 (비로그인이면 false)
+}
@@ -0,0 +1,19 @@
+package com.tarbonicar.backend.api.article.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// HOT 점수 보정 작업용 게시글 정보
+@Getter
+@AllArgsConstructor
+public class ArticleHotScoreRowDTO {
+
+    private Long id;
+    private LocalDateTime createdAt;
+    private Long likeCount;
+    private Long viewCount;
+    private Long commentCount;
+    private Double hotScore;
+}
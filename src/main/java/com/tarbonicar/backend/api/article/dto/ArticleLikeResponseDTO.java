@@ -0,0 +1,13 @@
+package com.tarbonicar.backend.api.article.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ArticleLikeResponseDTO {
+
+    private Long articleId;
+    private boolean myLike; // 토글 후 좋아요 상태
+    private long likeCount;
+}
@@ -0,0 +1,12 @@
+package com.tarbonicar.backend.api.article.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ArticleLikeStatusDTO {
+
+    private Long articleId;
+    private boolean myLike; // 내가 좋아요 누른 게시글이면 true
+}
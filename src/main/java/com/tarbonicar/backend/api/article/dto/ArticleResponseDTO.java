@@ -1,5 +1,6 @@
 package com.tarbonicar.backend.api.article.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -23,4 +24,17 @@ public class ArticleResponseDTO {
 
     private String carName;
     private Integer carAge;
+
+    @JsonIgnore
+    private Double hotScore; // HOT 정렬 커서용
+
+    // 목록 조회 프로젝션용 생성자 (좋아요 여부는 페이지 조회 후 일괄 설정)
+    public ArticleResponseDTO(Long id, String title, String content, Long likeCount, Long viewCount, Long commentCount,
+                              LocalDateTime createAt, String carName, Integer carAge, Double hotScore) {
+        this(id, title, content, likeCount, viewCount, commentCount, createAt, false, carName, carAge, hotScore);
+    }
+
+    public void updateMyLike(boolean myLike) {
+        this.myLike = myLike;
+    }
 }
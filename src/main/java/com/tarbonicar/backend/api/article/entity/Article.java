@@ -15,7 +15,14 @@ import java.util.List;
 @Entity
 @Builder
 @Getter
-@Table(name = "article")
+@Table(
+        name = "article",
+        indexes = {
+                @Index(name = "idx_article_category_age", columnList = "category_age_id"),
+                @Index(name = "idx_article_hot_score", columnList = "hot_score, article_id"),
+                @Index(name = "idx_article_updated_at", columnList = "updated_at")
+        }
+)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Article extends BaseTimeEntity {
@@ -32,6 +39,8 @@ public class Article extends BaseTimeEntity {
 
     private long viewCount;
     private long likeCount;
+    private long commentCount;
+    private double hotScore; // HOT 정렬 점수 (ArticleHotScoreCalculator 참고)
     private boolean modify;
 
     @Enumerated(EnumType.STRING)
@@ -10,7 +10,10 @@ import lombok.NoArgsConstructor;
 @Entity
 @Builder
 @Getter
-@Table(name = "article_like")
+@Table(
+        name = "article_like",
+        uniqueConstraints = @UniqueConstraint(name = "uk_article_like_article_member", columnNames = {"article_id", "member_id"})
+)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ArticleLike {
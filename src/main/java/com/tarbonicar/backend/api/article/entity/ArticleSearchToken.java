@@ -0,0 +1,27 @@
+package com.tarbonicar.backend.api.article.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 게시글 검색용 역색인 (토큰 -> 게시글 ID)
+@Entity
+@Getter
+@IdClass(ArticleSearchTokenId.class)
+@Table(
+        name = "article_search_token",
+        indexes = @Index(name = "idx_article_search_token_token", columnList = "token, article_id")
+)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleSearchToken {
+
+    @Id
+    @Column(length = 8)
+    private String token;
+
+    @Id
+    @Column(name = "article_id")
+    private Long articleId;
+}
@@ -0,0 +1,16 @@
+package com.tarbonicar.backend.api.article.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleSearchTokenId implements Serializable {
+
+    private String token;
+    private Long articleId;
+}
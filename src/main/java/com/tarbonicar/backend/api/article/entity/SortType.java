@@ -4,5 +4,6 @@ public enum SortType {
     RECENT,
     OLDEST,
     MOSTLIKED,
-    MOSTVIEW
+    MOSTVIEW,
+    HOT // 좋아요/댓글/조회수 + 시간 감쇠 점수
 }
@@ -0,0 +1,13 @@
+package com.tarbonicar.backend.api.article.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글이 수정 / 삭제되어 상세 캐시에 담긴 정보(제목, 내용, 카테고리 등)가 바뀌었을 때 발행
+// 좋아요 / 댓글 수는 상세 캐시에 넣지 않고 따로 조회하므로 발행하지 않음
+@Getter
+@AllArgsConstructor
+public class ArticleChangedEvent {
+
+    private final Long articleId;
+}
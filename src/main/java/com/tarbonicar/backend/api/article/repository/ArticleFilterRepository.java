@@ -1,23 +1,61 @@
 package com.tarbonicar.backend.api.article.repository;
 
+import com.tarbonicar.backend.api.article.cache.ArticleDetailSnapshot;
+import com.tarbonicar.backend.api.article.dto.ArticleCursor;
+import com.tarbonicar.backend.api.article.dto.ArticleDetailCountDTO;
+import com.tarbonicar.backend.api.article.dto.ArticleHotScoreRowDTO;
 import com.tarbonicar.backend.api.article.dto.ArticleResponseDTO;
 import com.tarbonicar.backend.api.article.entity.Article;
 import com.tarbonicar.backend.api.article.entity.ArticleType;
 import com.tarbonicar.backend.api.article.entity.SortType;
+import com.tarbonicar.backend.common.response.CursorResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface ArticleFilterRepository {
     Page<ArticleResponseDTO> findByFilters(
-            String carType,
-            List<String> carName,
-            List<Integer> carAge,
+            Collection<Long> carAgeIds,
+            List<ArticleType> articleType,
+            SortType sortType,
+            Pageable pageable
+    );
+
+    Slice<ArticleResponseDTO> findSliceByFilters(
+            Collection<Long> carAgeIds,
+            List<ArticleType> articleType,
+            SortType sortType,
+            Pageable pageable
+    );
+
+    CursorResponse<ArticleResponseDTO> findByFiltersWithCursor(
+            Collection<Long> carAgeIds,
+            List<ArticleType> articleType,
+            SortType sortType,
+            ArticleCursor cursor,
+            int size
+    );
+
+    // 게시글 검색 (tokens : 검색어 토큰, 모든 토큰을 포함하는 게시글만 조회)
+    Page<ArticleResponseDTO> searchByFilters(
+            List<String> tokens,
+            Collection<Long> carAgeIds,
+            List<ArticleType> articleType,
+            SortType sortType,
+            Pageable pageable
+    );
+
+    Slice<ArticleResponseDTO> searchSliceByFilters(
+            List<String> tokens,
+            Collection<Long> carAgeIds,
             List<ArticleType> articleType,
             SortType sortType,
-            Pageable pageable,
-            Long userId
+            Pageable pageable
     );
 
     /*Page<Article> findByFilters(
@@ -29,5 +67,23 @@ public interface ArticleFilterRepository {
             Pageable pageable
     );*/
 
-    Page<ArticleResponseDTO> findByMemberId(SortType sortType,Pageable pageable, String memberId, Long userId);
+    Page<ArticleResponseDTO> findByMemberId(SortType sortType,Pageable pageable, Long memberId);
+
+    Slice<ArticleResponseDTO> findSliceByMemberId(SortType sortType, Pageable pageable, Long memberId);
+
+    CursorResponse<ArticleResponseDTO> findByMemberIdWithCursor(SortType sortType, ArticleCursor cursor, int size, Long memberId);
+
+    // 게시글 상세 조회 (작성자, 카테고리까지 한 번에 조회, 상세 캐시에 저장되는 사용자와 무관한 정보)
+    Optional<ArticleDetailSnapshot> findDetailSnapshotById(Long articleId);
+
+    // 게시글 상세의 좋아요 / 댓글 수와 좋아요 여부 (userId 가 null 이면 좋아요 여부는 false)
+    Optional<ArticleDetailCountDTO> findDetailCountsById(Long articleId, Long userId);
+
+    // 조회수 일괄 반영 (HOT 점수에도 조회 가중치만큼 반영)
+    long addViewCounts(Map<Long, Long> deltas, double boost, double viewWeight);
+
+    // HOT 점수 보정용 조회 (ID 구간 단위)
+    List<ArticleHotScoreRowDTO> findHotScoreRows(Long fromId, Long toId);
+
+    long updateHotScores(Map<Long, Double> scores);
 }
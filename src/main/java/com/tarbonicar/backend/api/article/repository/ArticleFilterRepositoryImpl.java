@@ -1,164 +1,235 @@
 package com.tarbonicar.backend.api.article.repository;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.ComparableExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.tarbonicar.backend.api.article.cache.ArticleCountCache;
+import com.tarbonicar.backend.api.article.cache.ArticleDetailSnapshot;
+import com.tarbonicar.backend.api.article.dto.ArticleCursor;
+import com.tarbonicar.backend.api.article.dto.ArticleDetailCountDTO;
+import com.tarbonicar.backend.api.article.dto.ArticleHotScoreRowDTO;
 import com.tarbonicar.backend.api.article.dto.ArticleResponseDTO;
 import com.tarbonicar.backend.api.article.entity.*;
 import com.tarbonicar.backend.api.category.entity.QCarAge;
 import com.tarbonicar.backend.api.category.entity.QCarName;
 import com.tarbonicar.backend.api.category.entity.QCarType;
-import com.tarbonicar.backend.api.comment.entity.QComment;
+import com.tarbonicar.backend.api.member.entity.QMember;
+import com.tarbonicar.backend.common.response.CursorResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Repository
 @RequiredArgsConstructor
 public class ArticleFilterRepositoryImpl implements ArticleFilterRepository {
     private final JPAQueryFactory queryFactory;
+    private final ArticleCountCache articleCountCache;
 
     @Override
     public Page<ArticleResponseDTO> findByFilters(
-            String carType,
-            List<String> carNames,
-            List<Integer> carAges,
+            Collection<Long> carAgeIds,
             List<ArticleType> articleTypes,
             SortType sortType,
-            Pageable pageable,
-            Long userId
+            Pageable pageable
     ) {
         QArticle article = QArticle.article;
         QCarAge carAge = QCarAge.carAge1;
         QCarName carName = QCarName.carName1;
-        QCarType carTypeEntity = QCarType.carType1;
-        QArticleLike articleLike = QArticleLike.articleLike;
-        QComment comment = QComment.comment;
-
-        BooleanBuilder builder = new BooleanBuilder();
-
-        // carType
-        if (carType != null && !carType.isEmpty()) {
-            builder.and(carTypeEntity.carType.eq(carType));
-        }
-
-        // carName
-        if (carNames != null && !carNames.isEmpty()) {
-            builder.and(carName.carName.in(carNames));
-        }
-
-        // carAge
-        if (carAges != null && !carAges.isEmpty()) {
-            builder.and(carAge.carAge.in(carAges));
-        }
 
-        // articleType
-        if (articleTypes != null && !articleTypes.isEmpty()) {
-            builder.and(article.articleType.in(articleTypes));
-        }
+        BooleanBuilder builder = filterCondition(carAgeIds, articleTypes);
 
         // 정렬 조건 처리
         OrderSpecifier<?> order = getSortSpecifier(sortType, article);
 
         // 페이징 처라
         List<ArticleResponseDTO> results = queryFactory
-                .select(Projections.constructor(ArticleResponseDTO.class,
-                        article.id,
-                        article.title,
-                        article.content,
-                        article.likeCount,
-                        article.viewCount,
-                        // 댓글 개수 서브쿼리
-                        JPAExpressions.select(comment.count())
-                                .from(comment)
-                                .where(comment.article.id.eq(article.id)),
-                        article.createdAt,
-                        // 좋아요 여부 서브쿼리
-                        userId != null ?
-                                JPAExpressions.selectOne()
-                                        .from(articleLike)
-                                        .where(articleLike.article.id.eq(article.id)
-                                                .and(articleLike.member.id.eq(userId)))
-                                        .exists() : Expressions.asBoolean(false),
-                        carName.carName,
-                        carAge.carAge
-                ))
+                .select(articleResponse())
                 .from(article)
                 .leftJoin(article.carAge, carAge)
                 .leftJoin(carAge.carName, carName)
-                .leftJoin(carName.carType, carTypeEntity)
-                .leftJoin(article.member)
                 .where(builder)
                 .orderBy(order)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        Long total = queryFactory
+        // 전체 개수는 필터 조합별로 캐시
+        long totalCount = articleCountCache.get(carAgeIds, articleTypes, () -> queryFactory
                 .select(article.count())
                 .from(article)
+                .where(builder)
+                .fetchOne());
+
+        return new PageImpl<>(results, pageable, totalCount);
+    }
+
+    @Override
+    public Slice<ArticleResponseDTO> findSliceByFilters(
+            Collection<Long> carAgeIds,
+            List<ArticleType> articleTypes,
+            SortType sortType,
+            Pageable pageable
+    ) {
+        QArticle article = QArticle.article;
+        QCarAge carAge = QCarAge.carAge1;
+        QCarName carName = QCarName.carName1;
+
+        BooleanBuilder builder = filterCondition(carAgeIds, articleTypes);
+
+        // count 쿼리 없이 size + 1 건 조회 (다음 페이지 존재 여부 확인용)
+        List<ArticleResponseDTO> results = queryFactory
+                .select(articleResponse())
+                .from(article)
+                .leftJoin(article.carAge, carAge)
+                .leftJoin(carAge.carName, carName)
+                .where(builder)
+                .orderBy(getSortSpecifier(sortType, article))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        return toSlice(results, pageable);
+    }
+
+    @Override
+    public CursorResponse<ArticleResponseDTO> findByFiltersWithCursor(
+            Collection<Long> carAgeIds,
+            List<ArticleType> articleTypes,
+            SortType sortType,
+            ArticleCursor cursor,
+            int size
+    ) {
+        QArticle article = QArticle.article;
+        QCarAge carAge = QCarAge.carAge1;
+        QCarName carName = QCarName.carName1;
+
+        BooleanBuilder builder = filterCondition(carAgeIds, articleTypes);
+        builder.and(cursorCondition(sortType, cursor, article));
+
+        boolean backward = cursor != null && cursor.isBackward();
+
+        // offset 없이 커서 위치부터 size + 1 건 조회 (다음 페이지 존재 여부 확인용)
+        List<ArticleResponseDTO> rows = queryFactory
+                .select(articleResponse())
+                .from(article)
                 .leftJoin(article.carAge, carAge)
                 .leftJoin(carAge.carName, carName)
-                .leftJoin(carName.carType, carTypeEntity)
+                .where(builder)
+                .orderBy(getCursorSortSpecifiers(sortType, article, backward))
+                .limit(size + 1L)
+                .fetch();
+
+        return toCursorResponse(rows, size, sortType, cursor);
+    }
+
+    @Override
+    public Page<ArticleResponseDTO> searchByFilters(
+            List<String> tokens,
+            Collection<Long> carAgeIds,
+            List<ArticleType> articleTypes,
+            SortType sortType,
+            Pageable pageable
+    ) {
+        QArticle article = QArticle.article;
+        QCarAge carAge = QCarAge.carAge1;
+        QCarName carName = QCarName.carName1;
+
+        BooleanBuilder builder = filterCondition(carAgeIds, articleTypes);
+        builder.and(searchCondition(tokens));
+
+        List<ArticleResponseDTO> results = queryFactory
+                .select(articleResponse())
+                .from(article)
+                .leftJoin(article.carAge, carAge)
+                .leftJoin(carAge.carName, carName)
+                .where(builder)
+                .orderBy(getSortSpecifier(sortType, article))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // 검색 결과 개수는 검색어마다 달라 캐시하지 않음
+        Long totalCount = queryFactory
+                .select(article.count())
+                .from(article)
                 .where(builder)
                 .fetchOne();
 
-        long totalCount = (total == null) ? 0 : total; // NPE 방지용
+        return new PageImpl<>(results, pageable, (totalCount == null) ? 0 : totalCount);
+    }
 
-        return new PageImpl<>(results, pageable, totalCount);
+    @Override
+    public Slice<ArticleResponseDTO> searchSliceByFilters(
+            List<String> tokens,
+            Collection<Long> carAgeIds,
+            List<ArticleType> articleTypes,
+            SortType sortType,
+            Pageable pageable
+    ) {
+        QArticle article = QArticle.article;
+        QCarAge carAge = QCarAge.carAge1;
+        QCarName carName = QCarName.carName1;
+
+        BooleanBuilder builder = filterCondition(carAgeIds, articleTypes);
+        builder.and(searchCondition(tokens));
+
+        // count 쿼리 없이 size + 1 건 조회 (다음 페이지 존재 여부 확인용)
+        List<ArticleResponseDTO> results = queryFactory
+                .select(articleResponse())
+                .from(article)
+                .leftJoin(article.carAge, carAge)
+                .leftJoin(carAge.carName, carName)
+                .where(builder)
+                .orderBy(getSortSpecifier(sortType, article))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        return toSlice(results, pageable);
     }
 
     @Override
     public Page<ArticleResponseDTO> findByMemberId(
             SortType sortType,
             Pageable pageable,
-            String memberId,
-            Long userId
+            Long memberId
     ) {
         QArticle article = QArticle.article;
         QCarAge carAge = QCarAge.carAge1;
         QCarName carName = QCarName.carName1;
         QCarType carTypeEntity = QCarType.carType1;
-        QArticleLike articleLike = QArticleLike.articleLike;
-        QComment comment = QComment.comment;
 
         // 정렬 기준
         OrderSpecifier<?> order = getSortSpecifier(sortType, article);
 
         List<ArticleResponseDTO> result = queryFactory
-                .select(Projections.constructor(ArticleResponseDTO.class,
-                        article.id,
-                        article.title,
-                        article.content,
-                        article.likeCount,
-                        article.viewCount,
-                        // 댓글 개수 서브쿼리
-                        JPAExpressions.select(comment.count())
-                                .from(comment)
-                                .where(comment.article.id.eq(article.id)),
-                        article.createdAt,
-                        // 좋아요 여부 서브쿼리
-                        userId != null ?
-                                JPAExpressions.selectOne()
-                                        .from(articleLike)
-                                        .where(articleLike.article.id.eq(article.id)
-                                                .and(articleLike.member.id.eq(userId)))
-                                        .exists() : Expressions.asBoolean(false),
-                        carName.carName,
-                        carAge.carAge
-                        )).from(article)
+                .select(articleResponse())
+                .from(article)
                 .leftJoin(article.carAge, carAge)
                 .leftJoin(carAge.carName, carName)
                 .leftJoin(carName.carType, carTypeEntity)
-                .leftJoin(article.member)
-                .where(article.member.email.eq(memberId))
+                .where(article.member.id.eq(memberId))
                 .orderBy(order)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
@@ -167,7 +238,7 @@ public class ArticleFilterRepositoryImpl implements ArticleFilterRepository {
         Long total = queryFactory
                 .select(article.count())
                 .from(article)
-                .where(article.member.email.eq(memberId))
+                .where(article.member.id.eq(memberId))
                 .fetchOne();
 
         long totalCount = (total == null) ? 0 : total; // NPE 방지용
@@ -175,6 +246,253 @@ public class ArticleFilterRepositoryImpl implements ArticleFilterRepository {
         return new PageImpl<>(result, pageable, totalCount);
     }
 
+    @Override
+    public Slice<ArticleResponseDTO> findSliceByMemberId(
+            SortType sortType,
+            Pageable pageable,
+            Long memberId
+    ) {
+        QArticle article = QArticle.article;
+        QCarAge carAge = QCarAge.carAge1;
+        QCarName carName = QCarName.carName1;
+
+        List<ArticleResponseDTO> result = queryFactory
+                .select(articleResponse())
+                .from(article)
+                .leftJoin(article.carAge, carAge)
+                .leftJoin(carAge.carName, carName)
+                .where(article.member.id.eq(memberId))
+                .orderBy(getSortSpecifier(sortType, article))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        return toSlice(result, pageable);
+    }
+
+    @Override
+    public CursorResponse<ArticleResponseDTO> findByMemberIdWithCursor(
+            SortType sortType,
+            ArticleCursor cursor,
+            int size,
+            Long memberId
+    ) {
+        QArticle article = QArticle.article;
+        QCarAge carAge = QCarAge.carAge1;
+        QCarName carName = QCarName.carName1;
+
+        boolean backward = cursor != null && cursor.isBackward();
+
+        List<ArticleResponseDTO> rows = queryFactory
+                .select(articleResponse())
+                .from(article)
+                .leftJoin(article.carAge, carAge)
+                .leftJoin(carAge.carName, carName)
+                .where(article.member.id.eq(memberId),
+                        cursorCondition(sortType, cursor, article))
+                .orderBy(getCursorSortSpecifiers(sortType, article, backward))
+                .limit(size + 1L)
+                .fetch();
+
+        return toCursorResponse(rows, size, sortType, cursor);
+    }
+
+    @Override
+    public Optional<ArticleDetailSnapshot> findDetailSnapshotById(Long articleId) {
+        QArticle article = QArticle.article;
+        QMember member = QMember.member;
+        QCarAge carAge = QCarAge.carAge1;
+        QCarName carName = QCarName.carName1;
+        QCarType carTypeEntity = QCarType.carType1;
+
+        ArticleDetailSnapshot snapshot = queryFactory
+                .select(Projections.constructor(ArticleDetailSnapshot.class,
+                        article.id,
+                        article.title,
+                        article.content,
+                        article.viewCount,
+                        article.articleType,
+                        article.createdAt,
+                        article.modify,
+                        member.id,
+                        member.nickname,
+                        member.profileImage,
+                        carTypeEntity.carType,
+                        carName.carName,
+                        carAge.carAge
+                ))
+                .from(article)
+                .join(article.member, member)
+                .join(article.carAge, carAge)
+                .join(carAge.carName, carName)
+                .join(carName.carType, carTypeEntity)
+                .where(article.id.eq(articleId))
+                .fetchOne();
+
+        return Optional.ofNullable(snapshot);
+    }
+
+    @Override
+    public Optional<ArticleDetailCountDTO> findDetailCountsById(Long articleId, Long userId) {
+        QArticle article = QArticle.article;
+        QArticleLike articleLike = QArticleLike.articleLike;
+
+        // 비로그인 조회는 좋아요 조인 없이 PK 조회만
+        if (userId == null) {
+            Tuple row = queryFactory
+                    .select(article.likeCount, article.commentCount)
+                    .from(article)
+                    .where(article.id.eq(articleId))
+                    .fetchOne();
+            return Optional.ofNullable(row)
+                    .map(r -> new ArticleDetailCountDTO(r.get(article.likeCount), r.get(article.commentCount), false));
+        }
+
+        // 좋아요 여부는 (article_id, member_id) 유니크 키로 최대 한 건만 조인
+        Tuple row = queryFactory
+                .select(article.likeCount, article.commentCount, articleLike.id)
+                .from(article)
+                .leftJoin(articleLike)
+                .on(articleLike.article.id.eq(article.id), articleLike.member.id.eq(userId))
+                .where(article.id.eq(articleId))
+                .fetchOne();
+
+        return Optional.ofNullable(row)
+                .map(r -> new ArticleDetailCountDTO(r.get(article.likeCount), r.get(article.commentCount), r.get(articleLike.id) != null));
+    }
+
+    // 게시글별 조회수 증가분을 UPDATE 한 번으로 반영
+    // UPDATE article SET view_count = view_count + CASE WHEN id = ? THEN ? ... ELSE 0 END WHERE id IN (...)
+    @Override
+    @Transactional
+    public long addViewCounts(Map<Long, Long> deltas, double boost, double viewWeight) {
+        if (deltas.isEmpty()) return 0;
+
+        QArticle article = QArticle.article;
+
+        CaseBuilder.Cases<Long, NumberExpression<Long>> cases = null;
+        CaseBuilder.Cases<Double, NumberExpression<Double>> weights = null;
+        for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+            cases = (cases == null)
+                    ? new CaseBuilder().when(article.id.eq(entry.getKey())).then(entry.getValue())
+                    : cases.when(article.id.eq(entry.getKey())).then(entry.getValue());
+
+            double weight = entry.getValue() * viewWeight;
+            weights = (weights == null)
+                    ? new CaseBuilder().when(article.id.eq(entry.getKey())).then(weight)
+                    : weights.when(article.id.eq(entry.getKey())).then(weight);
+        }
+
+        // hotScore = boost + ln(e^(hotScore - boost) + 가중치)
+        NumberExpression<Double> hotScore = Expressions.numberTemplate(Double.class,
+                "{0} + ln(exp({1} - {0}) + {2})", boost, article.hotScore, weights.otherwise(0.0));
+
+        return queryFactory
+                .update(article)
+                .set(article.viewCount, article.viewCount.add(cases.otherwise(0L)))
+                .set(article.hotScore, hotScore)
+                .where(article.id.in(deltas.keySet()))
+                .execute();
+    }
+
+    @Override
+    public List<ArticleHotScoreRowDTO> findHotScoreRows(Long fromId, Long toId) {
+        QArticle article = QArticle.article;
+
+        return queryFactory
+                .select(Projections.constructor(ArticleHotScoreRowDTO.class,
+                        article.id,
+                        article.createdAt,
+                        article.likeCount,
+                        article.viewCount,
+                        article.commentCount,
+                        article.hotScore
+                ))
+                .from(article)
+                .where(article.id.between(fromId, toId))
+                .fetch();
+    }
+
+    @Override
+    @Transactional
+    public long updateHotScores(Map<Long, Double> scores) {
+        if (scores.isEmpty()) return 0;
+
+        QArticle article = QArticle.article;
+
+        CaseBuilder.Cases<Double, NumberExpression<Double>> cases = null;
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            cases = (cases == null)
+                    ? new CaseBuilder().when(article.id.eq(entry.getKey())).then(entry.getValue())
+                    : cases.when(article.id.eq(entry.getKey())).then(entry.getValue());
+        }
+
+        return queryFactory
+                .update(article)
+                .set(article.hotScore, cases.otherwise(article.hotScore))
+                .where(article.id.in(scores.keySet()))
+                .execute();
+    }
+
+    // 목록 조회 공통 프로젝션
+    // 좋아요 여부(myLike)는 포함하지 않아 로그인 여부와 관계없이 동일한 쿼리로 조회
+    private ConstructorExpression<ArticleResponseDTO> articleResponse() {
+        QArticle article = QArticle.article;
+        QCarAge carAge = QCarAge.carAge1;
+        QCarName carName = QCarName.carName1;
+
+        return Projections.constructor(ArticleResponseDTO.class,
+                article.id,
+                article.title,
+                article.content,
+                article.likeCount,
+                article.viewCount,
+                article.commentCount,
+                article.createdAt,
+                carName.carName,
+                carAge.carAge,
+                article.hotScore
+        );
+    }
+
+    // 카테고리, 게시글 타입 필터 조건
+    // 카테고리 조건은 카테고리 트리에서 미리 변환한 category_age_id 목록으로 받아 article 테이블만으로 필터링
+    // carAgeIds 가 null 이면 카테고리 조건 없음, 비어 있으면 일치하는 게시글 없음
+    private BooleanBuilder filterCondition(
+            Collection<Long> carAgeIds,
+            List<ArticleType> articleTypes
+    ) {
+        QArticle article = QArticle.article;
+
+        BooleanBuilder builder = new BooleanBuilder();
+
+        // carType, carName, carAge, categoryId
+        if (carAgeIds != null) {
+            builder.and(article.carAge.id.in(carAgeIds));
+        }
+
+        // articleType
+        if (articleTypes != null && !articleTypes.isEmpty()) {
+            builder.and(article.articleType.in(articleTypes));
+        }
+
+        return builder;
+    }
+
+    // 검색어 토큰을 모두 포함하는 게시글 (역색인에서 토큰별 게시글 ID 를 모아 토큰 수만큼 일치하는 게시글만)
+    private BooleanExpression searchCondition(List<String> tokens) {
+        QArticle article = QArticle.article;
+        QArticleSearchToken searchToken = QArticleSearchToken.articleSearchToken;
+
+        return article.id.in(
+                JPAExpressions.select(searchToken.articleId)
+                        .from(searchToken)
+                        .where(searchToken.token.in(tokens))
+                        .groupBy(searchToken.articleId)
+                        .having(searchToken.token.count().eq((long) tokens.size()))
+        );
+    }
+
     private OrderSpecifier<?> getSortSpecifier(SortType sortType, QArticle article) {
         if (sortType == null) return article.createdAt.desc(); // 기본값
 
@@ -183,6 +501,69 @@ public class ArticleFilterRepositoryImpl implements ArticleFilterRepository {
             case OLDEST -> article.createdAt.asc();
             case MOSTLIKED -> article.likeCount.desc();
             case MOSTVIEW -> article.viewCount.desc();
+            case HOT -> article.hotScore.desc();
+        };
+    }
+
+    // 커서 페이징 정렬 (정렬 기준 값 + 게시글 ID)
+    // 이전 페이지 조회 시에는 정렬 방향을 뒤집어 커서에 가까운 순서로 조회
+    private OrderSpecifier<?>[] getCursorSortSpecifiers(SortType sortType, QArticle article, boolean backward) {
+        Order direction = (isDescending(sortType) != backward) ? Order.DESC : Order.ASC;
+
+        OrderSpecifier<?> key = switch (sortType) {
+            case RECENT, OLDEST -> new OrderSpecifier<>(direction, article.createdAt);
+            case MOSTLIKED -> new OrderSpecifier<>(direction, article.likeCount);
+            case MOSTVIEW -> new OrderSpecifier<>(direction, article.viewCount);
+            case HOT -> new OrderSpecifier<>(direction, article.hotScore);
         };
+
+        return new OrderSpecifier<?>[]{key, new OrderSpecifier<>(direction, article.id)};
+    }
+
+    // 커서 위치 이후(또는 이전)의 행만 조회하는 Keyset 조건
+    private BooleanExpression cursorCondition(SortType sortType, ArticleCursor cursor, QArticle article) {
+        if (cursor == null) return null;
+
+        boolean lessThan = isDescending(sortType) != cursor.isBackward();
+
+        return switch (sortType) {
+            case RECENT, OLDEST -> seek(article.createdAt, cursor.getDateTimeKey(), article, cursor.getId(), lessThan);
+            case MOSTLIKED -> seek(article.likeCount, cursor.getLongKey(), article, cursor.getId(), lessThan);
+            case MOSTVIEW -> seek(article.viewCount, cursor.getLongKey(), article, cursor.getId(), lessThan);
+            case HOT -> seek(article.hotScore, cursor.getDoubleKey(), article, cursor.getId(), lessThan);
+        };
+    }
+
+    private BooleanExpression seek(ComparableExpression<LocalDateTime> key, LocalDateTime value, QArticle article, Long id, boolean lessThan) {
+        return lessThan
+                ? key.lt(value).or(key.eq(value).and(article.id.lt(id)))
+                : key.gt(value).or(key.eq(value).and(article.id.gt(id)));
+    }
+
+    private <T extends Number & Comparable<?>> BooleanExpression seek(NumberExpression<T> key, T value, QArticle article, Long id, boolean lessThan) {
+        return lessThan
+                ? key.lt(value).or(key.eq(value).and(article.id.lt(id)))
+                : key.gt(value).or(key.eq(value).and(article.id.gt(id)));
+    }
+
+    private boolean isDescending(SortType sortType) {
+        return sortType != SortType.OLDEST;
+    }
+
+    private Slice<ArticleResponseDTO> toSlice(List<ArticleResponseDTO> rows, Pageable pageable) {
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<ArticleResponseDTO> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private CursorResponse<ArticleResponseDTO> toCursorResponse(List<ArticleResponseDTO> rows, int size, SortType sortType, ArticleCursor cursor) {
+        return CursorResponse.of(
+                rows,
+                size,
+                cursor != null,
+                cursor != null && cursor.isBackward(),
+                row -> ArticleCursor.next(sortType, row).encode(),
+                row -> ArticleCursor.prev(sortType, row).encode()
+        );
     }
 }
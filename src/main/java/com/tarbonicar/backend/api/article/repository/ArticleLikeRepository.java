@@ -1,13 +1,14 @@
 package com.tarbonicar.backend.api.article.repository;
 
 import com.tarbonicar.backend.api.article.entity.ArticleLike;
-import com.tarbonicar.backend.api.member.entity.Member;
+import org.springframework.data.domain.Pageable;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,19 +17,37 @@ public interface ArticleLikeRepository extends JpaRepository<ArticleLike, Long>
     // 사용자가 게시글에 좋아요를 눌렀는지 체크
     boolean existsByArticle_IdAndMember_Id(Long articleId, Long memberId);
 
+    // 게시글 목록 중 사용자가 좋아요 누른 게시글 ID 조회
+    @Query("SELECT al.article.id FROM ArticleLike al WHERE al.member.id = :memberId AND al.article.id IN :articleIds")
+    List<Long> findLikedArticleIds(@Param("memberId") Long memberId, @Param("articleIds") Collection<Long> articleIds);
+
     // 좋아요 상태 체크
     Optional<ArticleLike> findByArticle_IdAndMember_Id(Long articleId, Long memberId);
 
+    // 좋아요 해제 (삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM ArticleLike al WHERE al.article.id = :articleId AND al.member.id = :memberId")
+    int deleteByArticleIdAndMemberId(@Param("articleId") Long articleId, @Param("memberId") Long memberId);
+
+    // 좋아요 등록 (이미 좋아요 상태이거나 게시글이 없으면 0 반환)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO article_like (article_id, member_id) " +
+            "SELECT a.article_id, :memberId FROM article a WHERE a.article_id = :articleId", nativeQuery = true)
+    int insertIgnore(@Param("articleId") Long articleId, @Param("memberId") Long memberId);
+
     @Modifying
     @Query("DELETE FROM ArticleLike al WHERE al.article.id = :articleId")
     void deleteByArticleId(@Param("articleId") Long articleId);
 
-    // 좋아요 한 게시글 찾기
-    @Query("SELECT al.article.id FROM ArticleLike al WHERE al.member.id = :memberId")
-    List<Long> findLikedArticleIdsByMemberId(@Param("memberId") Long memberId);
+    // 회원탈퇴 : 회원이 누른 좋아요 chunk 조회 [좋아요 ID, 게시글 ID]
+    @Query("SELECT al.id, al.article.id FROM ArticleLike al WHERE al.member.id = :memberId ORDER BY al.id")
+    List<Object[]> findIdAndArticleIdByMemberId(@Param("memberId") Long memberId, Pageable pageable);
 
-    // 좋아요 삭제
     @Modifying
-    @Query("DELETE FROM ArticleLike al WHERE al.member.id = :memberId")
-    void deleteByMemberId(@Param("memberId") Long memberId);
+    @Query("DELETE FROM ArticleLike al WHERE al.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 회원탈퇴 : 삭제할 게시글에 눌린 좋아요 ID chunk 조회 (uk_article_like_article_member 사용)
+    @Query("SELECT al.id FROM ArticleLike al WHERE al.article.id IN :articleIds")
+    List<Long> findIdsByArticleIdIn(@Param("articleIds") Collection<Long> articleIds, Pageable pageable);
 }
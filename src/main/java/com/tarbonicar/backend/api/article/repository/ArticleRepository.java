@@ -1,22 +1,26 @@
 package com.tarbonicar.backend.api.article.repository;
 
 import com.tarbonicar.backend.api.article.entity.Article;
-import com.tarbonicar.backend.api.member.entity.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ArticleRepository extends JpaRepository<Article, Long>, ArticleFilterRepository {
 
-    // 조회수 1 증가
-    @Modifying
-    @Transactional
-    @Query("UPDATE Article a SET a.viewCount = a.viewCount + 1 WHERE a.id = :id")
-    void incrementViewCount(@Param("id") Long id);
+    // 카테고리 삭제 전 해당 카테고리를 사용하는 게시글 존재 여부
+    boolean existsByCarAgeId(Long carAgeId);
+
+    boolean existsByCarAgeCarNameId(Long carNameId);
+
+    boolean existsByCarAgeCarNameCarTypeId(Long carTypeId);
 
     // 좋아요 증가
     @Modifying
@@ -28,6 +32,64 @@ public interface ArticleRepository extends JpaRepository<Article, Long>, Article
     @Query("UPDATE Article a SET a.likeCount = CASE WHEN a.likeCount > 0 THEN a.likeCount -1 ELSE 0 END WHERE a.id = :id")
     void decreasementLikeCount(@Param("id") Long id);
 
+    // 좋아요 수 조회
+    @Query("SELECT a.likeCount FROM Article a WHERE a.id = :id")
+    Optional<Long> findLikeCountById(@Param("id") Long id);
+
+    // HOT 점수에 이벤트 가중치 반영 (hotScore = boost + ln(e^(hotScore - boost) + weight))
+    @Modifying
+    @Query("UPDATE Article a SET a.hotScore = :boost + LN(EXP(a.hotScore - :boost) + :weight) WHERE a.id = :id")
+    void addHotScore(@Param("id") Long id, @Param("boost") double boost, @Param("weight") double weight);
+
+    // HOT 점수에서 이벤트 가중치 제거 (좋아요 취소 / 댓글 삭제), 등록 시각 점수(floor) 아래로는 내리지 않음
+    // 취소 시각 기준으로 빼므로 좋아요를 반복해서 눌렀다 취소해도 점수가 올라가지 않음
+    @Modifying
+    @Query("UPDATE Article a SET a.hotScore = CASE WHEN EXP(a.hotScore - :boost) - :weight > EXP(:floor - :boost) " +
+            "THEN :boost + LN(EXP(a.hotScore - :boost) - :weight) ELSE :floor END WHERE a.id = :id")
+    void removeHotScore(@Param("id") Long id, @Param("boost") double boost, @Param("weight") double weight, @Param("floor") double floor);
+
+    // 게시글 등록 시각 조회 (HOT 점수 하한 계산용)
+    @Query("SELECT a.createdAt FROM Article a WHERE a.id = :id")
+    Optional<LocalDateTime> findCreatedAtById(@Param("id") Long id);
+
+    // 댓글 수 증가
+    @Modifying
+    @Query("UPDATE Article a SET a.commentCount = a.commentCount + 1 WHERE a.id = :id")
+    void incrementCommentCount(@Param("id") Long id);
+
+    // 댓글 수 감소
+    @Modifying
+    @Query("UPDATE Article a SET a.commentCount = CASE WHEN a.commentCount > :count THEN a.commentCount - :count ELSE 0 END WHERE a.id = :id")
+    void decreaseCommentCount(@Param("id") Long id, @Param("count") long count);
+
+    // 댓글 수 재계산 (ID 구간 단위)
+    @Modifying
+    @Transactional
+    @Query("UPDATE Article a SET a.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.article.id = a.id) WHERE a.id BETWEEN :fromId AND :toId")
+    int recalculateCommentCount(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 좋아요 수 재계산 (중복 좋아요 정리 후)
+    @Modifying
+    @Transactional
+    @Query("UPDATE Article a SET a.likeCount = (SELECT COUNT(al) FROM ArticleLike al WHERE al.article.id = a.id) WHERE a.id IN :ids")
+    int recalculateLikeCount(@Param("ids") Collection<Long> ids);
+
+    // 가장 큰 게시글 ID 조회
+    @Query("SELECT COALESCE(MAX(a.id), 0) FROM Article a")
+    long findMaxId();
+
+    // 검색 색인 재생성용 게시글 조회 (ID, 제목, 내용)
+    @Query("SELECT a.id, a.title, a.content FROM Article a WHERE a.id BETWEEN :fromId AND :toId")
+    List<Object[]> findSearchSourceByIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 게시글 본문 조회 (ID 구간 단위, 이미지 정리 작업의 참조 확인용)
+    @Query("SELECT a.content FROM Article a WHERE a.id BETWEEN :fromId AND :toId")
+    List<String> findContentsByIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 기준 시각 이후 수정된 게시글 본문 조회 (이미지 정리 작업의 삭제 직전 참조 재확인용)
+    @Query("SELECT a.content FROM Article a WHERE a.updatedAt >= :since")
+    List<String> findContentsUpdatedSince(@Param("since") LocalDateTime since);
+
     // 내가 작성한 게시글 수 조회
     @Query("SELECT COUNT(a) FROM Article a WHERE a.member.email = :email")
     int countByMemberEmail(@Param("email") String email);
@@ -36,12 +98,21 @@ public interface ArticleRepository extends JpaRepository<Article, Long>, Article
     @Query("SELECT COALESCE(SUM(a.likeCount), 0) FROM Article a WHERE a.member.email = :email")
     int countTotalLikesByMemberEmail(@Param("email") String email);
 
-    // 회원탈퇴 댓글 삭제
-    int deleteByMember(Member member);
+    // 회원탈퇴 : 회원이 작성한 게시글 ID chunk 조회
+    @Query("SELECT a.id FROM Article a WHERE a.member.id = :memberId ORDER BY a.id")
+    List<Long> findIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 회원탈퇴 : 삭제할 게시글 본문 (본문에 포함된 이미지 사용 종료용)
+    @Query("SELECT a.content FROM Article a WHERE a.id IN :ids")
+    List<String> findContentsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM Article a WHERE a.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 
     // 회원탈퇴 좋아요 -1
     @Modifying
-    @Query("UPDATE Article a SET a.likeCount = a.likeCount - 1 WHERE a.id IN :articleIds")
-    void decreaseLikeCount(@Param("articleIds") List<Long> articleIds);
+    @Query("UPDATE Article a SET a.likeCount = CASE WHEN a.likeCount > 0 THEN a.likeCount - 1 ELSE 0 END WHERE a.id IN :articleIds")
+    void decreaseLikeCount(@Param("articleIds") Collection<Long> articleIds);
 
 }
@@ -0,0 +1,28 @@
+package com.tarbonicar.backend.api.article.repository;
+
+import com.tarbonicar.backend.api.article.entity.ArticleSearchToken;
+import com.tarbonicar.backend.api.article.entity.ArticleSearchTokenId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface ArticleSearchTokenRepository extends JpaRepository<ArticleSearchToken, ArticleSearchTokenId> {
+
+    // 게시글 검색 색인 삭제
+    @Modifying
+    @Query("DELETE FROM ArticleSearchToken t WHERE t.articleId = :articleId")
+    int deleteByArticleId(@Param("articleId") Long articleId);
+
+    // 회원탈퇴 시 작성한 게시글 검색 색인 삭제 (게시글 ID chunk 단위)
+    @Modifying
+    @Query("DELETE FROM ArticleSearchToken t WHERE t.articleId IN :articleIds")
+    int deleteByArticleIdIn(@Param("articleIds") Collection<Long> articleIds);
+
+    // 색인 재생성용 (ID 구간 단위)
+    @Modifying
+    @Query("DELETE FROM ArticleSearchToken t WHERE t.articleId BETWEEN :fromId AND :toId")
+    int deleteByArticleIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
@@ -0,0 +1,95 @@
+package com.tarbonicar.backend.api.article.scheduler;
+
+import com.tarbonicar.backend.api.article.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// 좋아요 중복 방지 유니크 키(uk_article_like_article_member) 확인
+// 좋아요 등록(INSERT IGNORE)은 이 키가 있어야 중복을 막을 수 있는데, 기존 테이블에 중복 행이 있으면 스키마 자동 반영으로 키가 생성되지 않음
+// 키가 없으면 시작을 중단하고, article.like.dedupe-on-startup=true 로 실행하면 중복 행 정리 / 좋아요 수 재계산 후 키를 추가
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleLikeUniqueKeyRunner implements ApplicationRunner {
+
+    private static final String UNIQUE_KEY_NAME = "uk_article_like_article_member";
+    private static final Set<String> UNIQUE_KEY_COLUMNS = Set.of("article_id", "member_id");
+    private static final int RECOUNT_BATCH_SIZE = 1000;
+
+    // 중복 좋아요가 있는 게시글 ID
+    private static final String FIND_DUPLICATED_ARTICLE_IDS_SQL =
+            "SELECT DISTINCT article_id FROM article_like GROUP BY article_id, member_id HAVING COUNT(*) > 1";
+
+    // (게시글, 회원) 마다 가장 먼저 등록된 좋아요만 남김
+    private static final String DELETE_DUPLICATES_SQL =
+            "DELETE FROM article_like WHERE article_like_id NOT IN (" +
+                    "SELECT keep_id FROM (SELECT MIN(article_like_id) AS keep_id FROM article_like GROUP BY article_id, member_id) AS kept)";
+
+    private static final String ADD_UNIQUE_KEY_SQL =
+            "ALTER TABLE article_like ADD CONSTRAINT " + UNIQUE_KEY_NAME + " UNIQUE (article_id, member_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ArticleRepository articleRepository;
+
+    @Value("${article.like.dedupe-on-startup:false}")
+    private boolean dedupeOnStartup;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (hasUniqueKey()) {
+            return;
+        }
+
+        if (!dedupeOnStartup) {
+            throw new IllegalStateException("article_like 테이블에 " + UNIQUE_KEY_NAME + " 유니크 키가 없습니다. " +
+                    "article.like.dedupe-on-startup=true 로 실행해 중복 좋아요를 정리하고 키를 추가하세요.");
+        }
+
+        List<Long> articleIds = jdbcTemplate.queryForList(FIND_DUPLICATED_ARTICLE_IDS_SQL, Long.class);
+        int deleted = jdbcTemplate.update(DELETE_DUPLICATES_SQL);
+
+        for (int from = 0; from < articleIds.size(); from += RECOUNT_BATCH_SIZE) {
+            articleRepository.recalculateLikeCount(articleIds.subList(from, Math.min(from + RECOUNT_BATCH_SIZE, articleIds.size())));
+        }
+
+        // 정리 중 새 중복 행이 생기면 키 추가가 실패하므로 다시 실행
+        jdbcTemplate.execute(ADD_UNIQUE_KEY_SQL);
+        log.info("중복 좋아요 정리 후 유니크 키 추가: deleted={}, articles={}", deleted, articleIds.size());
+    }
+
+    // 이름과 관계없이 (article_id, member_id) 유니크 인덱스가 있는지 확인
+    private boolean hasUniqueKey() {
+        Boolean exists = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String table = metaData.storesUpperCaseIdentifiers() ? "ARTICLE_LIKE" : "article_like";
+
+            Map<String, Set<String>> uniqueIndexes = new HashMap<>();
+            try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table, true, false)) {
+                while (rs.next()) {
+                    String indexName = rs.getString("INDEX_NAME");
+                    String column = rs.getString("COLUMN_NAME");
+                    if (indexName != null && column != null) {
+                        uniqueIndexes.computeIfAbsent(indexName, key -> new HashSet<>()).add(column.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            return uniqueIndexes.values().stream().anyMatch(UNIQUE_KEY_COLUMNS::equals);
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+}
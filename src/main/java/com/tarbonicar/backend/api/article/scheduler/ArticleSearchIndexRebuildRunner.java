@@ -0,0 +1,23 @@
+package com.tarbonicar.backend.api.article.scheduler;
+
+import com.tarbonicar.backend.api.article.service.ArticleSearchIndexService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 게시글 검색 색인 전체 재생성
+// article.search.rebuild-on-startup=true 로 실행하면 시작 시 한 번 재생성 (배포 전 일회성 실행 등)
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "article.search.rebuild-on-startup", havingValue = "true")
+public class ArticleSearchIndexRebuildRunner implements ApplicationRunner {
+
+    private final ArticleSearchIndexService articleSearchIndexService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        articleSearchIndexService.rebuild();
+    }
+}
@@ -0,0 +1,23 @@
+package com.tarbonicar.backend.api.article.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 게시글 댓글 수(commentCount) 일괄 보정
+// commentCount 컬럼 추가 직후에는 기존 게시글이 0 으로 남으므로,
+// article.comment-count.repair-on-startup=true 로 실행하면 시작 시 한 번 보정 (컬럼 추가 배포 시 일회성 실행 등)
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "article.comment-count.repair-on-startup", havingValue = "true")
+public class CommentCountRepairRunner implements ApplicationRunner {
+
+    private final CommentCountRepairScheduler commentCountRepairScheduler;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        commentCountRepairScheduler.repairCommentCount();
+    }
+}
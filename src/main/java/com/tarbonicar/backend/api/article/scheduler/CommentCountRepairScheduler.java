@@ -0,0 +1,43 @@
+package com.tarbonicar.backend.api.article.scheduler;
+
+import com.tarbonicar.backend.api.article.repository.ArticleRepository;
+import com.tarbonicar.backend.common.config.chunk.ChunkSize;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 게시글 댓글 수(commentCount) 보정 작업
+// 댓글 작성/삭제 시 증감으로 관리되는 값을 실제 댓글 수로 주기적으로 다시 맞춤
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountRepairScheduler {
+
+    private final ArticleRepository articleRepository;
+
+    @Value("${article.comment-count.repair-chunk-size:1000}")
+    private long chunkSize;
+
+    @PostConstruct
+    void validateChunkSize() {
+        ChunkSize.requirePositive("article.comment-count.repair-chunk-size", chunkSize);
+    }
+
+    @Scheduled(cron = "${article.comment-count.repair-cron:0 0 4 * * *}")
+    public void repairCommentCount() {
+
+        long maxId = articleRepository.findMaxId();
+        long updated = 0;
+
+        // ID 구간 단위로 나누어 재계산 (구간마다 별도 트랜잭션)
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            long toId = Math.min(fromId + chunkSize - 1, maxId);
+            updated += articleRepository.recalculateCommentCount(fromId, toId);
+        }
+
+        log.info("게시글 댓글 수 보정 완료: maxId={}, updated={}", maxId, updated);
+    }
+}
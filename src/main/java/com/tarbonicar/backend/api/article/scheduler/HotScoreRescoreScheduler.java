@@ -0,0 +1,62 @@
+package com.tarbonicar.backend.api.article.scheduler;
+
+import com.tarbonicar.backend.api.article.dto.ArticleHotScoreRowDTO;
+import com.tarbonicar.backend.api.article.repository.ArticleRepository;
+import com.tarbonicar.backend.api.article.service.ArticleHotScoreCalculator;
+import com.tarbonicar.backend.common.config.chunk.ChunkSize;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 게시글 HOT 점수 보정 작업
+// 점수를 누적 좋아요/댓글/조회수 기준 범위(모두 등록 시각에 발생 ~ 모두 지금 발생)로 제한하고, 초기화되지 않은 점수(0)를 채움
+// 좋아요 취소 / 댓글 삭제는 요청 시 점수에서 빼므로 여기서는 회원 탈퇴 등으로 빠진 참여와 오차만 보정
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotScoreRescoreScheduler {
+
+    private final ArticleRepository articleRepository;
+    private final ArticleHotScoreCalculator hotScoreCalculator;
+
+    @Value("${article.hot.rescore-chunk-size:1000}")
+    private long chunkSize;
+
+    @PostConstruct
+    void validateChunkSize() {
+        ChunkSize.requirePositive("article.hot.rescore-chunk-size", chunkSize);
+    }
+
+    @Scheduled(cron = "${article.hot.rescore-cron:0 30 * * * *}")
+    public void rescore() {
+
+        long maxId = articleRepository.findMaxId();
+        double boostNow = hotScoreCalculator.boostNow();
+        long updated = 0;
+
+        // ID 구간 단위로 나누어 보정 (구간마다 별도 트랜잭션, 값이 바뀐 게시글만 UPDATE)
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            long toId = Math.min(fromId + chunkSize - 1, maxId);
+
+            List<ArticleHotScoreRowDTO> rows = articleRepository.findHotScoreRows(fromId, toId);
+            Map<Long, Double> scores = new HashMap<>();
+            for (ArticleHotScoreRowDTO row : rows) {
+                double engagement = hotScoreCalculator.engagement(row.getLikeCount(), row.getCommentCount(), row.getViewCount());
+                double score = hotScoreCalculator.rescore(row.getHotScore(), row.getCreatedAt(), engagement, boostNow);
+                if (score != row.getHotScore()) {
+                    scores.put(row.getId(), score);
+                }
+            }
+            updated += articleRepository.updateHotScores(scores);
+        }
+
+        log.info("게시글 HOT 점수 보정 완료: maxId={}, updated={}", maxId, updated);
+    }
+}
@@ -0,0 +1,69 @@
+package com.tarbonicar.backend.api.article.service;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// HOT 정렬용 점수 계산
+// 점수 = ln(Σ 가중치 × e^(λ × (이벤트 시각 - 기준 시각))) (forward decay, 로그 스케일)
+// 이벤트가 발생할 때 현재 시각 기준 가중치만 더하면 되므로, 다른 게시글 점수를 다시 계산하지 않아도 시간에 따른 감쇠가 순서에 반영됨
+// 게시글 등록 시 가중치 1 로 시작하므로 새 글은 등록 시각만큼의 점수를 가짐
+@Getter
+@Component
+public class ArticleHotScoreCalculator {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private final double likeWeight;
+    private final double commentWeight;
+    private final double viewWeight;
+    private final double decaySeconds; // 반감기 / ln2
+
+    public ArticleHotScoreCalculator(
+            @Value("${article.hot.half-life-hours:12}") double halfLifeHours,
+            @Value("${article.hot.like-weight:3}") double likeWeight,
+            @Value("${article.hot.comment-weight:2}") double commentWeight,
+            @Value("${article.hot.view-weight:0.1}") double viewWeight
+    ) {
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+        this.viewWeight = viewWeight;
+        this.decaySeconds = halfLifeHours * 3600 / Math.log(2);
+    }
+
+    // 해당 시각에 발생한 이벤트의 시간 가중치 (로그 스케일)
+    public double boost(LocalDateTime time) {
+        return Duration.between(EPOCH, time).toSeconds() / decaySeconds;
+    }
+
+    // 지금 발생한 이벤트의 시간 가중치
+    public double boostNow() {
+        return boost(LocalDateTime.now());
+    }
+
+    // 게시글 점수의 하한 (등록 시 가중치 1 만 있는 상태)
+    public double floor(LocalDateTime createdAt) {
+        return boost(createdAt);
+    }
+
+    // 누적 좋아요/댓글/조회수 가중합
+    public double engagement(long likeCount, long commentCount, long viewCount) {
+        return likeCount * likeWeight + commentCount * commentWeight + viewCount * viewWeight;
+    }
+
+    // 점수 보정 : 참여가 모두 등록 시각에 발생한 경우(하한) ~ 모두 지금 발생한 경우(상한) 범위로 제한
+    // 초기화되지 않은 점수(0)는 하한값으로 설정
+    public double rescore(double hotScore, LocalDateTime createdAt, double engagement, double boostNow) {
+        double created = boost(createdAt);
+        double lower = created + Math.log1p(engagement);
+        double upper = boostNow + Math.log(Math.exp(created - boostNow) + engagement);
+
+        if (hotScore == 0 || hotScore < lower) {
+            return lower;
+        }
+        return Math.min(hotScore, upper);
+    }
+}
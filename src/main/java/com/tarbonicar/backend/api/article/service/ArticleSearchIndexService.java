@@ -0,0 +1,94 @@
+package com.tarbonicar.backend.api.article.service;
+
+import com.tarbonicar.backend.api.article.repository.ArticleRepository;
+import com.tarbonicar.backend.api.article.repository.ArticleSearchTokenRepository;
+import com.tarbonicar.backend.common.config.chunk.ChunkSize;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+// 게시글 검색 색인 관리
+// 게시글 등록/수정/삭제 시 호출하는 쪽 트랜잭션 안에서 함께 반영하고, rebuild() 로 전체 재생성
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleSearchIndexService {
+
+    private static final String INSERT_TOKEN_SQL = "INSERT IGNORE INTO article_search_token (token, article_id) VALUES (?, ?)";
+
+    private final ArticleSearchTokenRepository articleSearchTokenRepository;
+    private final ArticleRepository articleRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${article.search.rebuild-chunk-size:500}")
+    private long rebuildChunkSize;
+
+    @PostConstruct
+    void validateRebuildChunkSize() {
+        ChunkSize.requirePositive("article.search.rebuild-chunk-size", rebuildChunkSize);
+    }
+
+    // 게시글 등록 시 색인 추가
+    public void index(Long articleId, String title, String content) {
+        Set<String> tokens = ArticleSearchTokenizer.tokenize(title + " " + content);
+        if (tokens.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            rows.add(new Object[]{token, articleId});
+        }
+        jdbcTemplate.batchUpdate(INSERT_TOKEN_SQL, rows);
+    }
+
+    // 게시글 수정 시 색인 교체
+    public void reindex(Long articleId, String title, String content) {
+        articleSearchTokenRepository.deleteByArticleId(articleId);
+        index(articleId, title, content);
+    }
+
+    // 게시글 삭제 시 색인 삭제
+    public void remove(Long articleId) {
+        articleSearchTokenRepository.deleteByArticleId(articleId);
+    }
+
+    // 회원탈퇴 시 작성한 게시글 색인 삭제 (게시글 ID chunk 단위)
+    public void removeAll(Collection<Long> articleIds) {
+        articleSearchTokenRepository.deleteByArticleIdIn(articleIds);
+    }
+
+    // 전체 색인 재생성 (ID 구간 단위, 구간마다 별도 트랜잭션)
+    public void rebuild() {
+        long maxId = articleRepository.findMaxId();
+        long indexed = 0;
+
+        for (long fromId = 1; fromId <= maxId; fromId += rebuildChunkSize) {
+            long from = fromId;
+            long to = Math.min(fromId + rebuildChunkSize - 1, maxId);
+
+            Integer count = transactionTemplate.execute(status -> {
+                articleSearchTokenRepository.deleteByArticleIdBetween(from, to);
+
+                List<Object[]> articles = articleRepository.findSearchSourceByIdBetween(from, to);
+                for (Object[] row : articles) {
+                    index((Long) row[0], (String) row[1], (String) row[2]);
+                }
+                return articles.size();
+            });
+            indexed += (count == null) ? 0 : count;
+        }
+
+        log.info("게시글 검색 색인 재생성 완료: maxId={}, indexed={}", maxId, indexed);
+    }
+}
@@ -0,0 +1,59 @@
+package com.tarbonicar.backend.api.article.service;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+// 게시글 검색용 토크나이저
+// 문자/숫자가 아닌 문자로 단어를 나눈 뒤, 단어마다 2글자씩 겹쳐 자른 bigram 을 토큰으로 사용
+// 형태소 분석 없이도 "소나타를" 처럼 조사가 붙은 단어에서 "소나타" 를 찾을 수 있음
+// 한 글자 검색어("차")도 찾을 수 있도록 색인에는 글자 하나씩(unigram)도 함께 저장
+public final class ArticleSearchTokenizer {
+
+    private ArticleSearchTokenizer() {
+    }
+
+    // 색인용 토큰 (단어의 모든 unigram + bigram)
+    public static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            int[] codePoints = word.codePoints().toArray();
+            for (int i = 0; i < codePoints.length; i++) {
+                tokens.add(new String(codePoints, i, 1));
+                if (i + 1 < codePoints.length) {
+                    tokens.add(new String(codePoints, i, 2));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    // 검색어 토큰 (두 글자 이상 단어는 bigram, 한 글자 단어는 unigram)
+    // 검색어의 bigram 만 사용해야 글자가 흩어져 있는 게시글까지 일치하지 않음
+    public static Set<String> queryTokens(String keyword) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(keyword)) {
+            int[] codePoints = word.codePoints().toArray();
+            if (codePoints.length == 1) {
+                tokens.add(word);
+            }
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+        }
+        return tokens;
+    }
+
+    // 전각/반각, 대소문자 통일 후 문자/숫자가 아닌 문자로 분리
+    private static String[] words(String text) {
+        if (text == null || text.isBlank()) {
+            return new String[0];
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return Arrays.stream(normalized.split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .toArray(String[]::new);
+    }
+}
@@ -1,12 +1,18 @@
 package com.tarbonicar.backend.api.article.service;
 
+import com.tarbonicar.backend.api.article.cache.ArticleCountCache;
+import com.tarbonicar.backend.api.article.cache.ArticleDetailCache;
+import com.tarbonicar.backend.api.article.cache.ArticleDetailSnapshot;
+import com.tarbonicar.backend.api.article.cache.ArticleViewCountBuffer;
 import com.tarbonicar.backend.api.article.dto.*;
 import com.tarbonicar.backend.api.article.entity.Article;
-import com.tarbonicar.backend.api.article.entity.ArticleLike;
 import com.tarbonicar.backend.api.article.entity.ArticleType;
 import com.tarbonicar.backend.api.article.entity.SortType;
+import com.tarbonicar.backend.api.article.event.ArticleChangedEvent;
 import com.tarbonicar.backend.api.article.repository.ArticleLikeRepository;
 import com.tarbonicar.backend.api.article.repository.ArticleRepository;
+import com.tarbonicar.backend.api.aws.s3.service.ImageAssetService;
+import com.tarbonicar.backend.api.category.cache.CategoryTreeCache;
 import com.tarbonicar.backend.api.category.entity.CarAge;
 import com.tarbonicar.backend.api.category.repository.CarAgeRepository;
 import com.tarbonicar.backend.api.comment.repository.CommentRepository;
@@ -14,16 +20,22 @@ import com.tarbonicar.backend.api.member.entity.Member;
 import com.tarbonicar.backend.api.member.repository.MemberRepository;
 import com.tarbonicar.backend.common.exception.BadRequestException;
 import com.tarbonicar.backend.common.exception.NotFoundException;
+import com.tarbonicar.backend.common.response.CursorResponse;
 import com.tarbonicar.backend.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,19 +43,28 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ArticleService {
 
+    private static final int MAX_LIKE_STATUS_IDS = 100;
+
     private final ArticleLikeRepository articleLikeRepository;
     private final ArticleRepository articleRepository;
     private final CarAgeRepository carAgeRepository;
     private final MemberRepository memberRepository;
     private final CommentRepository commentRepository;
+    private final ArticleCountCache articleCountCache;
+    private final ArticleViewCountBuffer articleViewCountBuffer;
+    private final ArticleDetailCache articleDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArticleHotScoreCalculator hotScoreCalculator;
+    private final ArticleSearchIndexService articleSearchIndexService;
+    private final CategoryTreeCache categoryTreeCache;
+    private final ImageAssetService imageAssetService;
 
     // 게시글 작성 메서드
     @Transactional
-    public Long createArticle(ArticleCreateDTO articleCreateDTO, String memberEmail) {
+    public Long createArticle(ArticleCreateDTO articleCreateDTO, Long memberId) {
 
-        // 사용자가 존재하지 않을 때 예외처리
-        Member member = memberRepository.findByEmail(memberEmail)
-                .orElseThrow(()-> new NotFoundException(ErrorStatus.NOT_FOUND_MEMBERID_EXCEPTION.getMessage()));
+        // 토큰의 회원 ID 로 참조만 생성 (회원 조회 없음)
+        Member member = memberRepository.getReferenceById(memberId);
 
         // 카테고리(차량 연식)이 존재하지 않을 때 예외처리
         CarAge carAge = carAgeRepository.findById(articleCreateDTO.getCategoryId())
@@ -55,12 +76,24 @@ public class ArticleService {
                 .articleType(articleCreateDTO.getArticleType())
                 .likeCount(0)
                 .viewCount(0)
+                .commentCount(0)
+                .hotScore(hotScoreCalculator.boostNow())
                 .modify(false)
                 .member(member)
                 .carAge(carAge)
                 .build();
 
         Article articleSave = articleRepository.save(article);
+
+        // 본문에 포함된 업로드 이미지 사용 시작
+        imageAssetService.acquireAll(imageAssetService.fileKeysIn(articleSave.getContent()));
+
+        // 검색 색인 추가
+        articleSearchIndexService.index(articleSave.getId(), articleSave.getTitle(), articleSave.getContent());
+
+        // 필터별 게시글 수 캐시 반영
+        articleCountCache.articleCreated(carAge.getId(), articleSave.getArticleType());
+
         return articleSave.getId();
     }
 
@@ -70,145 +103,196 @@ public class ArticleService {
             String carType,
             List<String> carName,
             List<Integer> carAge,
+            List<Long> categoryId,
+            List<ArticleType> articleType,
+            SortType sortType,
+            Pageable pageable,
+            Long memberId
+    ) {
+
+        // 카테고리 조건을 category_age_id 목록으로 변환
+        Set<Long> carAgeIds = categoryTreeCache.get().resolveCarAgeIds(carType, carName, carAge, categoryId);
+        Page<ArticleResponseDTO> articleList = articleRepository.findByFilters(carAgeIds, articleType, sortType, pageable);
+        resolveMyLike(articleList.getContent(), memberId);
+        return articleList;
+    }
+
+    // 게시글 목록 조회 메서드 (전체 개수 없이 다음 페이지 여부만 조회)
+    @Transactional(readOnly = true)
+    public Slice<ArticleResponseDTO> getArticleSlice(
+            String carType,
+            List<String> carName,
+            List<Integer> carAge,
+            List<Long> categoryId,
             List<ArticleType> articleType,
             SortType sortType,
             Pageable pageable,
-            String memberEmail
+            Long memberId
     ) {
 
-        // 이메일이 null이 아니면 회원 조회
-        Long userId;
-        if (memberEmail != null && !memberEmail.isBlank()) {
-            Optional<Member> opt = memberRepository.findByEmail(memberEmail.trim());
-            userId = opt.map(Member::getId).orElse(null);
-        } else userId = null;
-
-        return articleRepository.findByFilters(carType, carName, carAge, articleType, sortType, pageable, userId);
-
-        /*Page<Article> articleList = articleRepository.findByFilters(carType, carName, carAge, articleType, sortType, pageable);
-
-        // 이메일이 null이 아니면 회원 조회
-        Long userId;
-        if (memberEmail != null && !memberEmail.isBlank()) {
-            Optional<Member> opt = memberRepository.findByEmail(memberEmail.trim());
-            userId = opt.map(Member::getId).orElse(null);
-        } else userId = null;
-
-        return articleList.map(article -> new ArticleResponseDTO(
-                article.getId(),
-                article.getTitle(),
-                article.getContent(),
-                article.getLikeCount(),
-                article.getViewCount(),
-                commentRepository.countByArticle_Id(article.getId()),
-                article.getCreatedAt(),
-                (userId != null) && articleLikeRepository.existsByArticle_IdAndMember_Id(article.getId(), userId),
-                null,
-                article.getCarAge().getCarName().getCarName(),
-                article.getCarAge().getCarAge()
-        ));*/
+        // 카테고리 조건을 category_age_id 목록으로 변환
+        Set<Long> carAgeIds = categoryTreeCache.get().resolveCarAgeIds(carType, carName, carAge, categoryId);
+        Slice<ArticleResponseDTO> articleList = articleRepository.findSliceByFilters(carAgeIds, articleType, sortType, pageable);
+        resolveMyLike(articleList.getContent(), memberId);
+        return articleList;
+    }
+
+    // 게시글 목록 커서 조회 메서드
+    @Transactional(readOnly = true)
+    public CursorResponse<ArticleResponseDTO> getArticleByCursor(
+            String carType,
+            List<String> carName,
+            List<Integer> carAge,
+            List<Long> categoryId,
+            List<ArticleType> articleType,
+            SortType sortType,
+            String cursor,
+            int size,
+            Long memberId
+    ) {
+
+        SortType sort = (sortType != null) ? sortType : SortType.RECENT;
+        ArticleCursor articleCursor = decodeCursor(cursor, sort);
+
+        // 카테고리 조건을 category_age_id 목록으로 변환
+        Set<Long> carAgeIds = categoryTreeCache.get().resolveCarAgeIds(carType, carName, carAge, categoryId);
+        CursorResponse<ArticleResponseDTO> articleList = articleRepository.findByFiltersWithCursor(carAgeIds, articleType, sort, articleCursor, size);
+        resolveMyLike(articleList.getContent(), memberId);
+        return articleList;
+    }
+
+    // 게시글 검색 메서드
+    @Transactional(readOnly = true)
+    public Page<ArticleResponseDTO> searchArticle(
+            String keyword,
+            String carType,
+            List<String> carName,
+            List<Integer> carAge,
+            List<Long> categoryId,
+            List<ArticleType> articleType,
+            SortType sortType,
+            Pageable pageable,
+            Long memberId
+    ) {
+
+        List<String> tokens = searchTokens(keyword);
+
+        // 카테고리 조건을 category_age_id 목록으로 변환
+        Set<Long> carAgeIds = categoryTreeCache.get().resolveCarAgeIds(carType, carName, carAge, categoryId);
+        Page<ArticleResponseDTO> articleList = articleRepository.searchByFilters(tokens, carAgeIds, articleType, sortType, pageable);
+        resolveMyLike(articleList.getContent(), memberId);
+        return articleList;
+    }
+
+    // 게시글 검색 메서드 (전체 개수 없이 다음 페이지 여부만 조회)
+    @Transactional(readOnly = true)
+    public Slice<ArticleResponseDTO> searchArticleSlice(
+            String keyword,
+            String carType,
+            List<String> carName,
+            List<Integer> carAge,
+            List<Long> categoryId,
+            List<ArticleType> articleType,
+            SortType sortType,
+            Pageable pageable,
+            Long memberId
+    ) {
+
+        List<String> tokens = searchTokens(keyword);
+
+        // 카테고리 조건을 category_age_id 목록으로 변환
+        Set<Long> carAgeIds = categoryTreeCache.get().resolveCarAgeIds(carType, carName, carAge, categoryId);
+        Slice<ArticleResponseDTO> articleList = articleRepository.searchSliceByFilters(tokens, carAgeIds, articleType, sortType, pageable);
+        resolveMyLike(articleList.getContent(), memberId);
+        return articleList;
     }
 
     // 내가 작성한 게시글 목록 조회 메서드
     @Transactional
-    public Page<ArticleResponseDTO> getMyArticle(SortType sortType, Pageable pageable, String memberEmail) {
-
-        // 이메일이 null이 아니면 회원 조회
-        Long userId;
-        if (memberEmail != null && !memberEmail.isBlank()) {
-            Optional<Member> opt = memberRepository.findByEmail(memberEmail.trim());
-            userId = opt.map(Member::getId).orElse(null);
-        } else userId = null;
-
-        return articleRepository.findByMemberId(sortType, pageable, memberEmail, userId);
-
-        /*Page<ArticleResponseDTO> articleList = articleRepository.findByMemberId(sortType, pageable, memberEmail);
-
-        // 이메일이 null이 아니면 회원 조회
-        Long userId;
-        if (memberEmail != null && !memberEmail.isBlank()) {
-            Optional<Member> opt = memberRepository.findByEmail(memberEmail.trim());
-            userId = opt.map(Member::getId).orElse(null);
-        } else userId = null;
-
-        return articleList.map(article -> new ArticleResponseDTO(
-                article.getId(),
-                article.getTitle(),
-                article.getContent(),
-                article.getLikeCount(),
-                article.getViewCount(),
-                commentRepository.countByArticle_Id(article.getId()),
-                article.getCreatedAt(),
-                (userId != null) && articleLikeRepository.existsByArticle_IdAndMember_Id(article.getId(), userId),
-                null,
-                //article.getCarAge().getCarName().getCarName(),
-                article.getCarAge().getCarAge()
-        ));*/
+    public Page<ArticleResponseDTO> getMyArticle(SortType sortType, Pageable pageable, Long memberId) {
+
+        Page<ArticleResponseDTO> articleList = articleRepository.findByMemberId(sortType, pageable, memberId);
+        resolveMyLike(articleList.getContent(), memberId);
+        return articleList;
     }
 
-    // 게시글 상세 조회 메서드
-    @Transactional
-    public ArticleDetailResponseDTO getArticleDetail(Long articleId, String memberEmail) {
+    // 내가 작성한 게시글 목록 조회 메서드 (전체 개수 없이 다음 페이지 여부만 조회)
+    @Transactional(readOnly = true)
+    public Slice<ArticleResponseDTO> getMyArticleSlice(SortType sortType, Pageable pageable, Long memberId) {
 
-        // 게시글 조회
-        Article article = articleRepository.findById(articleId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_ARTICLE_EXCEPTION.getMessage()));
+        Slice<ArticleResponseDTO> articleList = articleRepository.findSliceByMemberId(sortType, pageable, memberId);
+        resolveMyLike(articleList.getContent(), memberId);
+        return articleList;
+    }
 
-        // 조회수 1 증가
-        articleRepository.incrementViewCount(articleId);
+    // 내가 작성한 게시글 목록 커서 조회 메서드
+    @Transactional(readOnly = true)
+    public CursorResponse<ArticleResponseDTO> getMyArticleByCursor(SortType sortType, String cursor, int size, Long memberId) {
 
-        // 이메일이 null이 아니면 회원 조회
-        Long userId = null;
-        if (memberEmail != null && !memberEmail.isBlank()) {
-            Optional<Member> opt = memberRepository.findByEmail(memberEmail.trim());
-            if (opt.isPresent()) {
-                userId = opt.get().getId();
-            }
+        SortType sort = (sortType != null) ? sortType : SortType.RECENT;
+        ArticleCursor articleCursor = decodeCursor(cursor, sort);
+
+        CursorResponse<ArticleResponseDTO> articleList = articleRepository.findByMemberIdWithCursor(sort, articleCursor, size, memberId);
+        resolveMyLike(articleList.getContent(), memberId);
+        return articleList;
+    }
+
+    // 게시글 상세 조회 메서드
+    // 사용자와 무관한 정보는 캐시에서 조회하고, 좋아요/댓글 수, 작성자/좋아요 여부와 조회수는 요청마다 반영
+    @Transactional(readOnly = true)
+    public ArticleDetailResponseDTO getArticleDetail(Long articleId, Long memberId) {
+
+        // 게시글, 작성자, 카테고리를 한 번에 조회 (캐시에 없을 때만)
+        ArticleDetailCache.Entry cached = articleDetailCache.get(articleId,
+                id -> articleRepository.findDetailSnapshotById(id).orElse(null),
+                snapshot -> snapshot.getViewCount() + articleViewCountBuffer.pending(articleId)); // 아직 DB에 반영되지 않은 조회수 포함
+        if (cached == null) {
+            throw new NotFoundException(ErrorStatus.NOT_FOUND_ARTICLE_EXCEPTION.getMessage());
         }
+        ArticleDetailSnapshot snapshot = cached.getSnapshot();
+
+        // 좋아요/댓글 수와 좋아요 여부는 캐시하지 않고 PK 조회 한 번으로 반영
+        ArticleDetailCountDTO counts = articleRepository.findDetailCountsById(articleId, memberId)
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_ARTICLE_EXCEPTION.getMessage()));
 
-        // userId가 null이면 myArticle/myLike는 모두 false
-        boolean myArticle = (userId != null)
-                && article.getMember().getId().equals(userId);
-        boolean myLike = (userId != null)
-                && articleLikeRepository
-                .existsByArticle_IdAndMember_Id(articleId, userId);
+        // 조회수 1 증가 (메모리에 누적 후 주기적으로 DB 반영)
+        articleViewCountBuffer.increment(articleId);
+        long viewCount = cached.recordView();
 
-        long commentCount = commentRepository.countByArticle_Id(articleId);
+        // memberId가 null이면 myArticle/myLike는 모두 false
+        boolean myArticle = (memberId != null)
+                && snapshot.getMemberId().equals(memberId);
 
         return ArticleDetailResponseDTO.builder()
-                .id(article.getId())
-                .title(article.getTitle())
-                .content(article.getContent())
-                .likeCount(article.getLikeCount())
-                .viewCount(article.getViewCount() + 1) // 메모리상 viewCount는 오래된 값이라 +1 추가
-                .commentCount(commentCount)
-                .articleType(article.getArticleType())
-                .createdAt(article.getCreatedAt())
+                .id(snapshot.getId())
+                .title(snapshot.getTitle())
+                .content(snapshot.getContent())
+                .likeCount(counts.getLikeCount())
+                .viewCount(viewCount)
+                .commentCount(counts.getCommentCount())
+                .articleType(snapshot.getArticleType())
+                .createdAt(snapshot.getCreatedAt())
                 .myArticle(myArticle)
-                .myLike(myLike)
-                .modify(article.isModify())
-                .nickname(article.getMember().getNickname())
-                .profileImage(article.getMember().getProfileImage())
-                .carType(article.getCarAge().getCarName().getCarType().getCarType())
-                .carName(article.getCarAge().getCarName().getCarName())
-                .carAge(article.getCarAge().getCarAge())
+                .myLike(counts.isMyLike())
+                .modify(snapshot.isModify())
+                .nickname(snapshot.getNickname())
+                .profileImage(snapshot.getProfileImage())
+                .carType(snapshot.getCarType())
+                .carName(snapshot.getCarName())
+                .carAge(snapshot.getCarAge())
                 .build();
     }
 
     // 게시글 수정 메서드
     @Transactional
-    public void modifyArticle(ArticleUpdateDTO articleUpdateDTO, String memberEmail) {
-
-        // 사용자 정보 조회
-        Member member = memberRepository.findByEmail(memberEmail)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_MEMBERID_EXCEPTION.getMessage()));
+    public void modifyArticle(ArticleUpdateDTO articleUpdateDTO, Long memberId) {
 
         // 기존 게시글 조회
         Article article = articleRepository.findById(articleUpdateDTO.getArticleId())
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_ARTICLE_EXCEPTION.getMessage()));
 
         // 작성자 확인 (권한 체크)
-        if (!article.getMember().getId().equals(member.getId())) {
+        if (!article.getMember().getId().equals(memberId)) {
             throw new BadRequestException(ErrorStatus.THIS_MEMBER_IS_NOT_WRITER_EXCEPTION.getMessage());
         }
 
@@ -218,28 +302,43 @@ public class ArticleService {
                         new NotFoundException(ErrorStatus.NOT_FOUND_CARAGE_EXCEPTION.getMessage())
                 );
 
+        // 카테고리 또는 게시글 타입이 바뀌면 필터별 게시글 수 캐시 반영
+        CarAge oldCarAge = article.getCarAge();
+        ArticleType oldArticleType = article.getArticleType();
+        if (!oldCarAge.getId().equals(carAge.getId()) || oldArticleType != articleUpdateDTO.getArticleType()) {
+            articleCountCache.articleMoved(oldCarAge.getId(), oldArticleType, carAge.getId(), articleUpdateDTO.getArticleType());
+        }
+
+        // 본문에서 추가된 이미지는 사용 시작, 빠진 이미지는 사용 종료 (객체 삭제는 커밋 후)
+        Set<String> oldImages = imageAssetService.fileKeysIn(article.getContent());
+        Set<String> newImages = imageAssetService.fileKeysIn(articleUpdateDTO.getContent());
+        imageAssetService.acquireAll(newImages.stream().filter(key -> !oldImages.contains(key)).toList());
+        imageAssetService.releaseAll(oldImages.stream().filter(key -> !newImages.contains(key)).toList());
+
         article.modify(
                 articleUpdateDTO.getTitle(),
                 articleUpdateDTO.getContent(),
                 articleUpdateDTO.getArticleType(),
                 carAge
         );
+
+        // 검색 색인 교체
+        articleSearchIndexService.reindex(article.getId(), article.getTitle(), article.getContent());
+
+        // 게시글 상세 캐시 무효화 (커밋 후)
+        eventPublisher.publishEvent(new ArticleChangedEvent(article.getId()));
     }
 
     // 게시글 삭제 메서드
     @Transactional
-    public void deleteArticle(Long articleId, String memberEmail) {
-
-        // 사용자 정보 조회
-        Member member = memberRepository.findByEmail(memberEmail)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_MEMBERID_EXCEPTION.getMessage()));
+    public void deleteArticle(Long articleId, Long memberId) {
 
         // 게시글 조회
         Article article = articleRepository.findById(articleId)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_ARTICLE_EXCEPTION.getMessage()));
 
         // 작성자 확인
-        if (!article.getMember().getId().equals(member.getId())) {
+        if (!article.getMember().getId().equals(memberId)) {
             throw new BadRequestException(ErrorStatus.THIS_MEMBER_IS_NOT_WRITER_EXCEPTION.getMessage());
         }
 
@@ -249,42 +348,113 @@ public class ArticleService {
         // 댓글 삭제
         commentRepository.deleteByArticleId(articleId);
 
+        // 필터별 게시글 수 캐시 반영
+        articleCountCache.articleDeleted(article.getCarAge().getId(), article.getArticleType());
+
+        // 검색 색인 삭제
+        articleSearchIndexService.remove(articleId);
+
+        // 본문에 포함된 업로드 이미지 사용 종료 (객체 삭제는 커밋 후)
+        imageAssetService.releaseAll(imageAssetService.fileKeysIn(article.getContent()));
+
         // 게시글 삭제
         articleRepository.delete(article);
+
+        // 게시글 상세 캐시 무효화 (커밋 후)
+        eventPublisher.publishEvent(new ArticleChangedEvent(articleId));
     }
 
     // 게시글 좋아요 토글 메서드
+    // (article_id, member_id) 유니크 키 기반으로 조건부 삭제 -> 없으면 INSERT IGNORE, 영향받은 행 수로 상태 판별
     @Transactional
-    public void likeArticle(Long articleId, String memberEmail){
+    public ArticleLikeResponseDTO likeArticle(Long articleId, Long memberId){
 
-        // 사용자 정보 조회
-        Member member = memberRepository.findByEmail(memberEmail)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_MEMBERID_EXCEPTION.getMessage()));
+        boolean liked;
 
-        // 게시글 조회
-        Article article = articleRepository.findById(articleId)
+        // 만약 좋아요를 누른상태면 좋아요 해제
+        if (articleLikeRepository.deleteByArticleIdAndMemberId(articleId, memberId) > 0) {
+            articleRepository.decreasementLikeCount(articleId);
+            articleRepository.findCreatedAtById(articleId).ifPresent(createdAt ->
+                    articleRepository.removeHotScore(articleId, hotScoreCalculator.boostNow(),
+                            hotScoreCalculator.getLikeWeight(), hotScoreCalculator.floor(createdAt)));
+            liked = false;
+
+        // 만약 좋아요를 누르지 않았으면 좋아요 추가
+        } else if (articleLikeRepository.insertIgnore(articleId, memberId) > 0) {
+            articleRepository.incrementLikeCount(articleId);
+            articleRepository.addHotScore(articleId, hotScoreCalculator.boostNow(), hotScoreCalculator.getLikeWeight());
+            liked = true;
+
+        // 동시에 들어온 요청이 먼저 등록한 경우 좋아요 상태 유지, 게시글이 없으면 예외처리
+        } else {
+            if (!articleRepository.existsById(articleId)) {
+                throw new NotFoundException(ErrorStatus.NOT_FOUND_ARTICLE_EXCEPTION.getMessage());
+            }
+            liked = true;
+        }
+
+        long likeCount = articleRepository.findLikeCountById(articleId)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_ARTICLE_EXCEPTION.getMessage()));
 
-        // 좋아요 상태 체크
-        Optional<ArticleLike> existingLike = articleLikeRepository.findByArticle_IdAndMember_Id(articleId, member.getId());
+        return new ArticleLikeResponseDTO(articleId, liked, likeCount);
+    }
+    // 게시글 좋아요 여부 일괄 조회 메서드
+    @Transactional(readOnly = true)
+    public List<ArticleLikeStatusDTO> getLikeStatus(List<Long> articleIds, Long memberId) {
 
-        // 만약 좋아요를 누른상태면 좋아요 해제
-        if(existingLike.isPresent()) {
-            articleLikeRepository.delete(existingLike.get());
-            articleRepository.decreasementLikeCount(articleId);
+        if (articleIds == null || articleIds.isEmpty()) {
+            return List.of();
+        }
 
-        //만약 좋아요를 누르지 않았으면 좋아요 추가
-        }else{
-            ArticleLike articleLike = ArticleLike.builder()
-                    .article(article)
-                    .member(member)
-                    .build();
+        // 한 번에 조회 가능한 게시글 수 제한
+        if (articleIds.size() > MAX_LIKE_STATUS_IDS) {
+            throw new BadRequestException(ErrorStatus.TOO_MANY_ARTICLE_IDS_EXCEPTION.getMessage());
+        }
 
-            articleLikeRepository.save(articleLike);
-            articleRepository.incrementLikeCount(articleId);
+        Set<Long> likedIds = findLikedArticleIds(articleIds, memberId);
+
+        return articleIds.stream()
+                .distinct()
+                .map(id -> new ArticleLikeStatusDTO(id, likedIds.contains(id)))
+                .collect(Collectors.toList());
+    }
+
+    // 페이지에 포함된 게시글의 좋아요 여부를 IN 조회 한 번으로 설정
+    private void resolveMyLike(List<ArticleResponseDTO> articles, Long userId) {
+        if (userId == null || articles.isEmpty()) {
+            return;
+        }
+
+        List<Long> articleIds = articles.stream()
+                .map(ArticleResponseDTO::getId)
+                .collect(Collectors.toList());
+        Set<Long> likedIds = findLikedArticleIds(articleIds, userId);
+
+        articles.forEach(article -> article.updateMyLike(likedIds.contains(article.getId())));
+    }
+
+    private Set<Long> findLikedArticleIds(Collection<Long> articleIds, Long userId) {
+        return new HashSet<>(articleLikeRepository.findLikedArticleIds(userId, articleIds));
+    }
+
+    // 검색어 토큰화 (토큰이 없으면 예외처리)
+    private List<String> searchTokens(String keyword) {
+        List<String> tokens = new ArrayList<>(ArticleSearchTokenizer.queryTokens(keyword));
+        if (tokens.isEmpty()) {
+            throw new BadRequestException(ErrorStatus.INVALID_SEARCH_KEYWORD_EXCEPTION.getMessage());
         }
+        return tokens;
+    }
 
+    // 커서 디코딩 + 정렬 기준 일치 여부 확인
+    private ArticleCursor decodeCursor(String cursor, SortType sortType) {
+        ArticleCursor articleCursor = ArticleCursor.decode(cursor);
+        if (articleCursor != null && articleCursor.getSortType() != sortType) {
+            throw new BadRequestException(ErrorStatus.CURSOR_SORT_MISMATCH_EXCEPTION.getMessage());
+        }
+        return articleCursor;
     }
+
     // 내 게시글 수
     public int countMyArticles(String email) {
         return articleRepository.countByMemberEmail(email);
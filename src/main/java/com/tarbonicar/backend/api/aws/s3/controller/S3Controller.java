@@ -1,6 +1,12 @@
 package com.tarbonicar.backend.api.aws.s3.controller;
 
+import com.tarbonicar.backend.api.aws.s3.dto.ImageVariantResponseDTO;
+import com.tarbonicar.backend.api.aws.s3.dto.PresignedUploadCompleteRequestDTO;
+import com.tarbonicar.backend.api.aws.s3.dto.PresignedUploadRequestDTO;
+import com.tarbonicar.backend.api.aws.s3.dto.PresignedUploadResponseDTO;
+import com.tarbonicar.backend.api.aws.s3.service.ImageVariantService;
 import com.tarbonicar.backend.api.aws.s3.service.S3Service;
+import com.tarbonicar.backend.api.jwt.MemberPrincipal;
 import com.tarbonicar.backend.common.response.ApiResponse;
 import com.tarbonicar.backend.common.response.SuccessStatus;
 import io.swagger.v3.oas.annotations.Operation;
@@ -8,13 +14,16 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1/s3")
@@ -23,14 +32,49 @@ import java.io.IOException;
 public class S3Controller {
 
    private final S3Service s3Service;
+   private final ImageVariantService imageVariantService;
 
+    // 업로드가 끝날 때까지 요청 스레드를 점유하지 않도록 비동기로 응답
     @Operation(summary = "이미지 업로드 API", description = "이미지를 받아서 저장 후 URL로 반환 합니다.")
     @PostMapping(value = "/upload-image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<ApiResponse<String>> uploadImage(@RequestParam(value = "image") MultipartFile file) throws IOException {
+    public CompletableFuture<ResponseEntity<ApiResponse<String>>> uploadImage(@RequestParam(value = "image") MultipartFile file) {
 
-        String url = s3Service.uploadImage(file);
+        return s3Service.uploadImage(file)
+                .thenApply(url -> ApiResponse.success(SuccessStatus.SEND_IMAGE_UPLOAD_SUCCESS, url));
+    }
+
+    @Operation(
+            summary = "이미지 업로드 URL 발급 API",
+            description = "버킷에 직접 업로드할 presigned PUT URL 을 발급합니다. <br>" + "응답의 uploadUrl 로 headers 를 그대로 포함해 PUT 요청을 보낸 뒤, fileKey 로 업로드 완료 API 를 호출합니다.")
+    @PostMapping("/presigned-upload")
+    public ResponseEntity<ApiResponse<PresignedUploadResponseDTO>> createPresignedUpload(
+            @RequestBody PresignedUploadRequestDTO request,
+            @AuthenticationPrincipal MemberPrincipal principal
+    ) {
+
+        PresignedUploadResponseDTO response = s3Service.createPresignedUpload(request, principal.getMemberId());
+        return ApiResponse.success(SuccessStatus.SEND_PRESIGNED_UPLOAD_SUCCESS, response);
+    }
+
+    @Operation(summary = "이미지 업로드 완료 API", description = "presigned URL 로 업로드한 이미지가 버킷에 있는지 확인하고 이미지 URL 을 반환합니다.")
+    @PostMapping("/presigned-upload/complete")
+    public CompletableFuture<ResponseEntity<ApiResponse<String>>> completePresignedUpload(
+            @RequestBody PresignedUploadCompleteRequestDTO request,
+            @AuthenticationPrincipal MemberPrincipal principal
+    ) {
+
+        return s3Service.completePresignedUpload(request.getFileKey(), principal.getMemberId())
+                .thenApply(url -> ApiResponse.success(SuccessStatus.SEND_IMAGE_UPLOAD_SUCCESS, url));
+    }
+
+    @Operation(
+            summary = "크기별 이미지 조회 API",
+            description = "업로드한 이미지의 크기별(긴 변 기준 px) URL, 원본 크기, 미리보기를 반환합니다. <br>" + "크기별 이미지는 업로드 후 비동기로 생성되므로 status 가 READY 가 되기 전에는 variants 가 비어 있습니다.")
+    @GetMapping("/image-variants")
+    public ResponseEntity<ApiResponse<ImageVariantResponseDTO>> getImageVariants(@RequestParam String image) {
 
-        return ApiResponse.success(SuccessStatus.SEND_IMAGE_UPLOAD_SUCCESS, url);
+        ImageVariantResponseDTO response = imageVariantService.getVariants(image);
+        return ApiResponse.success(SuccessStatus.GET_IMAGE_VARIANTS_SUCCESS, response);
     }
 
 }
@@ -0,0 +1,19 @@
+package com.tarbonicar.backend.api.aws.s3.dto;
+
+import com.tarbonicar.backend.api.aws.s3.entity.ImageVariantStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class ImageVariantResponseDTO {
+
+    private String imageUrl;                // 원본 이미지 URL
+    private ImageVariantStatus status;
+    private Integer width;                  // 원본 너비 (생성 완료 전에는 null)
+    private Integer height;                 // 원본 높이 (생성 완료 전에는 null)
+    private String placeholder;             // 미리보기 data URI (생성 완료 전에는 null)
+    private Map<Integer, String> variants;  // 크기(px) -> URL (원본보다 큰 크기는 원본 URL, 생성 완료 전에는 비어 있음)
+}
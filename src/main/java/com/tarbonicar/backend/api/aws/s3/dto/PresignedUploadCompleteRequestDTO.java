@@ -0,0 +1,15 @@
+package com.tarbonicar.backend.api.aws.s3.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUploadCompleteRequestDTO {
+
+    private String fileKey;
+}
@@ -0,0 +1,17 @@
+package com.tarbonicar.backend.api.aws.s3.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUploadRequestDTO {
+
+    private String fileName;     // 원본 파일명 (확장자 추출용)
+    private String contentType;  // 업로드할 파일 형식 (image/jpeg 등)
+    private Long contentLength;  // 업로드할 파일 크기 (byte)
+}
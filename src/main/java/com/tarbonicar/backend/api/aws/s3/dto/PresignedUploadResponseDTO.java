@@ -0,0 +1,18 @@
+package com.tarbonicar.backend.api.aws.s3.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class PresignedUploadResponseDTO {
+
+    private String uploadUrl;            // PUT 요청을 보낼 presigned URL
+    private String fileKey;              // 업로드 완료 요청 시 그대로 전달
+    private String imageUrl;             // 업로드 완료 후 사용할 이미지 URL
+    private Map<String, String> headers; // PUT 요청에 반드시 포함해야 하는 헤더 (Content-Type, Content-Length, x-amz-acl)
+    private Instant expiresAt;           // presigned URL 만료 시각
+}
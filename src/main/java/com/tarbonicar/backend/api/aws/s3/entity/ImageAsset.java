@@ -0,0 +1,80 @@
+package com.tarbonicar.backend.api.aws.s3.entity;
+
+import com.tarbonicar.backend.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+
+// 업로드된 원본 이미지와 크기별 이미지 생성 결과
+// 크기별 이미지는 원본 키 옆에 {원본 파일명}_w{크기}.jpg 로 저장
+// 같은 내용(SHA-256)의 이미지는 하나의 객체를 공유하고 refCount 로 사용 횟수를 관리
+@Entity
+@Getter
+@DynamicUpdate
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "image_asset")
+public class ImageAsset extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "image_asset_id")
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String fileKey;
+
+    // 원본 내용의 SHA-256 (hex), presigned 업로드처럼 서버를 거치지 않은 이미지는 null
+    @Column(length = 64, unique = true)
+    private String contentHash;
+
+    // 이 이미지를 저장한 회원 프로필 / 게시글 수 (0 이 되면 객체 삭제)
+    private long refCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ImageVariantStatus status;
+
+    // 원본 크기 (px)
+    private Integer width;
+    private Integer height;
+
+    // 실제로 생성한 크기 목록 (쉼표 구분, 원본보다 작은 크기만 생성)
+    @Column(length = 100)
+    private String variantSizes;
+
+    // 로딩 중 보여줄 작은 미리보기 (data URI)
+    @Column(length = 4000)
+    private String placeholder;
+
+    private int attempts;
+
+    public ImageAsset(String fileKey, String contentHash) {
+        this.fileKey = fileKey;
+        this.contentHash = contentHash;
+        this.refCount = 0; // 업로드만 한 상태 (프로필 / 게시글에 저장할 때 증가)
+        this.status = ImageVariantStatus.PENDING;
+    }
+
+    public void ready(int width, int height, String variantSizes, String placeholder) {
+        this.status = ImageVariantStatus.READY;
+        this.width = width;
+        this.height = height;
+        this.variantSizes = variantSizes;
+        this.placeholder = placeholder;
+    }
+
+    // 실패 기록 (최대 시도 횟수에 도달하면 FAILED 로 변경)
+    public void fail(int maxAttempts) {
+        this.attempts++;
+        if (attempts >= maxAttempts) {
+            this.status = ImageVariantStatus.FAILED;
+        }
+    }
+
+    public void failPermanently() {
+        this.attempts++;
+        this.status = ImageVariantStatus.FAILED;
+    }
+}
@@ -0,0 +1,72 @@
+package com.tarbonicar.backend.api.aws.s3.entity;
+
+import com.tarbonicar.backend.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 사용하지 않는 이미지 정리 작업 1회 실행 기록
+// 버킷 목록을 페이지 단위로 처리할 때마다 마지막 키를 저장하므로, 서버가 재시작되어도 이어서 진행
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "image_gc_run")
+public class ImageGcRun extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "image_gc_run_id")
+    private Long id;
+
+    // 마지막으로 처리한 키 (다음 목록 조회는 이 키 이후부터)
+    @Column(length = 1024)
+    private String startAfter;
+
+    // 삭제하지 않고 대상만 집계
+    private boolean dryRun;
+
+    private long scannedCount;
+    private long orphanCount;
+    private long deletedCount;
+
+    private LocalDateTime completedAt;
+
+    // 페이지를 처리 중인 서버가 점유한 시각 (목록 조회 / 삭제는 잠금 없이 진행하므로 다른 서버가 같은 페이지를 처리하지 않도록)
+    private LocalDateTime leaseUntil;
+
+    public ImageGcRun(boolean dryRun) {
+        this.dryRun = dryRun;
+    }
+
+    public boolean isCompleted() {
+        return completedAt != null;
+    }
+
+    // 다른 서버가 점유 중이면 false
+    public boolean claim(LocalDateTime now, LocalDateTime until) {
+        if (leaseUntil != null && leaseUntil.isAfter(now)) {
+            return false;
+        }
+        this.leaseUntil = until;
+        return true;
+    }
+
+    public void release() {
+        this.leaseUntil = null;
+    }
+
+    public void advance(String startAfter, long scanned, long orphans, long deleted) {
+        this.leaseUntil = null;
+        this.startAfter = startAfter;
+        this.scannedCount += scanned;
+        this.orphanCount += orphans;
+        this.deletedCount += deleted;
+    }
+
+    public void complete() {
+        this.completedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,7 @@
+package com.tarbonicar.backend.api.aws.s3.entity;
+
+public enum ImageVariantStatus {
+    PENDING,    // 크기별 이미지 생성 대기 중
+    READY,      // 생성 완료
+    FAILED      // 생성 실패 (지원하지 않는 형식 또는 재시도 횟수 초과)
+}
@@ -0,0 +1,49 @@
+package com.tarbonicar.backend.api.aws.s3.entity;
+
+import com.tarbonicar.backend.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// presigned 업로드 발급 기록
+// 업로드 완료 요청은 이 기록이 있는 키(이 흐름으로 발급한 키)에 대해서만, 발급받은 회원만 처리할 수 있음
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "presigned_upload_ticket", indexes = {
+        @Index(name = "idx_presigned_upload_ticket_expires_at", columnList = "expires_at")
+})
+public class PresignedUploadTicket extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "presigned_upload_ticket_id")
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String fileKey;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    // 이 시각 이후에는 업로드 완료 요청을 받지 않음
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public PresignedUploadTicket(String fileKey, Long memberId, LocalDateTime expiresAt) {
+        this.fileKey = fileKey;
+        this.memberId = memberId;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isIssuedTo(Long memberId) {
+        return this.memberId.equals(memberId);
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return now.isAfter(expiresAt);
+    }
+}
@@ -0,0 +1,66 @@
+package com.tarbonicar.backend.api.aws.s3.repository;
+
+import com.tarbonicar.backend.api.aws.s3.entity.ImageAsset;
+import com.tarbonicar.backend.api.aws.s3.entity.ImageVariantStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ImageAssetRepository extends JpaRepository<ImageAsset, Long> {
+
+    Optional<ImageAsset> findByFileKey(String fileKey);
+
+    Optional<ImageAsset> findByContentHash(String contentHash);
+
+    boolean existsByFileKey(String fileKey);
+
+    // 업로드 디렉터리(images/{랜덤 문자열}/)에 있는 이미지 키
+    @Query("SELECT a.fileKey FROM ImageAsset a WHERE a.fileKey LIKE CONCAT(:dir, '%')")
+    List<String> findFileKeysByDir(@Param("dir") String dir);
+
+    // 사용 횟수 증가 (색인에서 이미 삭제된 이미지는 0 반환)
+    // 마지막 사용 시각(updatedAt)도 갱신해 정리 작업의 유예 기간 동안 삭제되지 않도록 함
+    @Modifying
+    @Query("UPDATE ImageAsset a SET a.refCount = a.refCount + 1, a.updatedAt = :now WHERE a.fileKey = :fileKey")
+    int increaseRefCount(@Param("fileKey") String fileKey, @Param("now") LocalDateTime now);
+
+    // 중복 업로드로 재사용할 때 마지막 사용 시각만 갱신
+    @Modifying
+    @Query("UPDATE ImageAsset a SET a.updatedAt = :now WHERE a.id = :id")
+    int touch(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 사용 횟수 감소
+    @Modifying
+    @Query("UPDATE ImageAsset a SET a.refCount = a.refCount - 1 WHERE a.fileKey = :fileKey AND a.refCount > 0")
+    int decreaseRefCount(@Param("fileKey") String fileKey);
+
+    // 사용 횟수가 0 이고 유예 기간 내에 사용되지 않은 경우에만 삭제 (감소와 삭제 사이에 다시 사용된 경우 유지)
+    @Modifying
+    @Query("DELETE FROM ImageAsset a WHERE a.fileKey = :fileKey AND a.refCount = 0 AND a.updatedAt < :before")
+    int deleteUnreferenced(@Param("fileKey") String fileKey, @Param("before") LocalDateTime before);
+
+    @Query("SELECT a.fileKey FROM ImageAsset a WHERE a.fileKey IN :fileKeys")
+    List<String> findFileKeysIn(@Param("fileKeys") Collection<String> fileKeys);
+
+    // 사용 중이거나 주어진 시각 이후에 사용(등록/재사용/생성 완료)된 키 조회
+    @Query("SELECT a.fileKey FROM ImageAsset a WHERE a.fileKey IN :fileKeys AND (a.refCount > 0 OR a.updatedAt >= :since)")
+    List<String> findFileKeysInUseOrUsedSince(@Param("fileKeys") Collection<String> fileKeys, @Param("since") LocalDateTime since);
+
+    // 정리 작업에서 삭제할 이미지 색인 삭제 (사용 중이거나 유예 기간 내에 다시 사용된 색인은 유지)
+    @Modifying
+    @Query("DELETE FROM ImageAsset a WHERE a.fileKey IN :fileKeys AND a.refCount = 0 AND a.updatedAt < :before")
+    int deleteByFileKeyInAndUpdatedAtBefore(@Param("fileKeys") Collection<String> fileKeys, @Param("before") LocalDateTime before);
+
+    // 일정 시간 이상 대기 중인 생성 작업 조회 (작업 큐가 가득 찼거나 서버 재시작으로 누락된 작업 재시도용)
+    @Query("SELECT a.fileKey FROM ImageAsset a WHERE a.status = :status AND a.updatedAt < :before ORDER BY a.id")
+    List<String> findFileKeysByStatusAndUpdatedAtBefore(@Param("status") ImageVariantStatus status,
+                                                       @Param("before") LocalDateTime before,
+                                                       Pageable pageable);
+}
@@ -0,0 +1,21 @@
+package com.tarbonicar.backend.api.aws.s3.repository;
+
+import com.tarbonicar.backend.api.aws.s3.entity.ImageGcRun;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ImageGcRunRepository extends JpaRepository<ImageGcRun, Long> {
+
+    // 가장 최근 실행 기록
+    Optional<ImageGcRun> findTopByOrderByIdDesc();
+
+    // 실행 기록 잠금 조회 (여러 서버에서 같은 페이지를 동시에 처리하지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM ImageGcRun r WHERE r.id = :id")
+    Optional<ImageGcRun> findByIdForUpdate(@Param("id") Long id);
+}
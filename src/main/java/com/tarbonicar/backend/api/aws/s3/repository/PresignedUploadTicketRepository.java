@@ -0,0 +1,28 @@
+package com.tarbonicar.backend.api.aws.s3.repository;
+
+import com.tarbonicar.backend.api.aws.s3.entity.PresignedUploadTicket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface PresignedUploadTicketRepository extends JpaRepository<PresignedUploadTicket, Long> {
+
+    Optional<PresignedUploadTicket> findByFileKey(String fileKey);
+
+    // 업로드 완료 처리 시 발급 기록 사용 (동시에 같은 키로 완료 요청이 오면 한 요청만 1 반환)
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM PresignedUploadTicket t WHERE t.fileKey = :fileKey AND t.memberId = :memberId")
+    int consume(@Param("fileKey") String fileKey, @Param("memberId") Long memberId);
+
+    // 완료되지 않고 만료된 발급 기록 삭제 (업로드된 객체는 이미지 정리 작업이 삭제)
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM PresignedUploadTicket t WHERE t.expiresAt < :before")
+    int deleteExpired(@Param("before") LocalDateTime before);
+}
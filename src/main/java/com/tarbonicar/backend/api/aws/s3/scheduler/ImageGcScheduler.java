@@ -0,0 +1,41 @@
+package com.tarbonicar.backend.api.aws.s3.scheduler;
+
+import com.tarbonicar.backend.api.aws.s3.service.ImageGcService;
+import com.tarbonicar.backend.api.aws.s3.service.S3Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 사용하지 않는 이미지 정리 작업 실행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageGcScheduler {
+
+    private final ImageGcService imageGcService;
+    private final S3Service s3Service;
+
+    @Scheduled(fixedDelayString = "${image.gc.poll-interval-ms:60000}")
+    public void runImageGc() {
+        try {
+            imageGcService.runSweep();
+        } catch (Exception e) {
+            // 실패한 페이지는 진행 상황을 저장하지 않으므로 다음 주기에 같은 위치부터 다시 시도
+            log.warn("이미지 정리 작업 실패, 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    // 완료되지 않고 만료된 presigned 업로드 발급 기록 정리
+    @Scheduled(fixedDelayString = "${cloud.aws.s3.presigned-ticket-purge-interval-ms:3600000}")
+    public void purgeExpiredPresignedUploads() {
+        try {
+            int purged = s3Service.purgeExpiredPresignedUploads();
+            if (purged > 0) {
+                log.info("만료된 presigned 업로드 발급 기록 {}건 삭제", purged);
+            }
+        } catch (Exception e) {
+            log.warn("presigned 업로드 발급 기록 정리 실패, 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+}
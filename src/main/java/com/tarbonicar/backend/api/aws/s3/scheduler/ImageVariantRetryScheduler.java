@@ -0,0 +1,25 @@
+package com.tarbonicar.backend.api.aws.s3.scheduler;
+
+import com.tarbonicar.backend.api.aws.s3.service.ImageVariantService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 작업 큐 초과 / 서버 재시작 / 일시적인 오류로 남은 크기별 이미지 생성 작업 재시도
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageVariantRetryScheduler {
+
+    private final ImageVariantService imageVariantService;
+
+    @Scheduled(fixedDelayString = "${image.variant.retry-interval-ms:60000}")
+    public void retryPendingVariants() {
+        try {
+            imageVariantService.retryPending();
+        } catch (Exception e) {
+            log.warn("크기별 이미지 재시도 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.tarbonicar.backend.api.aws.s3.service;
+
+import com.tarbonicar.backend.api.aws.s3.entity.ImageAsset;
+import com.tarbonicar.backend.api.aws.s3.repository.ImageAssetRepository;
+import com.tarbonicar.backend.common.storage.ObjectStorage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 업로드 이미지 내용(SHA-256) -> 저장 키 색인과 사용 횟수 관리
+// 업로드만으로는 사용 횟수가 늘지 않고, 회원 프로필 / 게시글 본문에 저장할 때 acquire, 더 이상 사용하지 않을 때 release
+// 사용 횟수가 0 이 되면 원본과 크기별 이미지를 함께 삭제 (최근 업로드 / 재사용된 이미지는 유예 기간 후 정리 작업이 삭제)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageAssetService {
+
+    // 한 번의 업로드(원본 + 크기별 이미지)가 저장되는 디렉터리 (images/{16자리 랜덤 문자열}/)
+    private static final Pattern UPLOAD_DIR_PATTERN = Pattern.compile("images/[A-Za-z0-9]{16}/");
+
+    private final ImageAssetRepository imageAssetRepository;
+    private final ImageVariantService imageVariantService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectStorage objectStorage;
+
+    // 업로드 후 게시글 작성 / 프로필 변경까지 기다리는 시간 (정리 작업과 같은 값 사용)
+    @Value("${image.gc.grace-period-hours:24}")
+    private long gracePeriodHours;
+
+    // 같은 내용의 이미지가 있으면 기존 키 반환
+    // 마지막 사용 시각을 갱신해 사용하기 전까지 유예 기간 동안 삭제되지 않도록 함
+    public Optional<String> reuse(String contentHash) {
+        if (contentHash == null) {
+            return Optional.empty();
+        }
+        return transactionTemplate.execute(status -> imageAssetRepository.findByContentHash(contentHash)
+                .filter(asset -> imageAssetRepository.touch(asset.getId(), LocalDateTime.now()) == 1)
+                .map(ImageAsset::getFileKey));
+    }
+
+    // 새로 업로드한 이미지 등록 후 크기별 이미지 생성 요청
+    // 동시에 같은 내용이 먼저 등록된 경우 먼저 등록된 키를 반환 (호출한 쪽에서 방금 올린 객체 삭제)
+    public String register(String fileKey, String contentHash) {
+        try {
+            if (!imageAssetRepository.existsByFileKey(fileKey)) {
+                imageAssetRepository.save(new ImageAsset(fileKey, contentHash));
+            }
+        } catch (DataIntegrityViolationException e) {
+            Optional<String> existing = reuse(contentHash);
+            if (existing.isPresent()) {
+                return existing.get();
+            }
+            // 같은 키가 동시에 등록된 경우 (presigned 업로드 완료 요청 중복)
+        }
+        imageVariantService.submit(fileKey);
+        return fileKey;
+    }
+
+    // 사용 횟수 증가, 색인에 없는 키이면 false
+    // 호출한 쪽 트랜잭션에 참여하므로 저장이 롤백되면 함께 롤백
+    public boolean acquire(String fileKey) {
+        Integer updated = transactionTemplate.execute(status -> imageAssetRepository.increaseRefCount(fileKey, LocalDateTime.now()));
+        return updated != null && updated == 1;
+    }
+
+    // 사용 횟수 감소 (0 이 되면 원본과 크기별 이미지 삭제)
+    // 색인에 없는 키(색인 도입 이전 업로드 등)는 무시
+    // 객체 삭제는 호출한 쪽 트랜잭션이 커밋된 뒤에 진행
+    public void release(String fileKey) {
+        List<String> keys = transactionTemplate.execute(status -> {
+            if (imageAssetRepository.decreaseRefCount(fileKey) == 0) {
+                return List.<String>of();
+            }
+            ImageAsset asset = imageAssetRepository.findByFileKey(fileKey).orElse(null);
+            if (asset == null || asset.getRefCount() > 0) {
+                return List.<String>of();
+            }
+            // 유예 기간 내에 업로드 / 재사용된 이미지는 곧 다시 사용될 수 있으므로 정리 작업에 맡김
+            LocalDateTime before = LocalDateTime.now().minusHours(gracePeriodHours);
+            List<String> objectKeys = objectKeys(asset);
+            return imageAssetRepository.deleteUnreferenced(fileKey, before) == 1 ? objectKeys : List.<String>of();
+        });
+
+        if (keys == null || keys.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> deleteObjects(fileKey, keys));
+    }
+
+    // 본문에 포함된 업로드 이미지 사용 시작 (색인에 없는 이미지는 무시)
+    public void acquireAll(Collection<String> fileKeys) {
+        fileKeys.forEach(this::acquire);
+    }
+
+    public void releaseAll(Collection<String> fileKeys) {
+        fileKeys.forEach(this::release);
+    }
+
+    // 게시글 본문 등에 포함된 업로드 이미지의 저장 키 (색인에 있는 이미지만)
+    // URL 도메인이 바뀌거나 파일명이 인코딩되어도 찾을 수 있도록 업로드 디렉터리 단위로 검색
+    public Set<String> fileKeysIn(String text) {
+        Set<String> fileKeys = new LinkedHashSet<>();
+        for (String dir : uploadDirsIn(text)) {
+            fileKeys.addAll(imageAssetRepository.findFileKeysByDir(dir));
+        }
+        return fileKeys;
+    }
+
+    // 본문에 포함된 업로드 디렉터리 (images/{랜덤 문자열}/) 목록
+    public static Set<String> uploadDirsIn(String text) {
+        Set<String> dirs = new LinkedHashSet<>();
+        if (text == null || text.isEmpty()) {
+            return dirs;
+        }
+        Matcher matcher = UPLOAD_DIR_PATTERN.matcher(text);
+        while (matcher.find()) {
+            dirs.add(matcher.group());
+        }
+        return dirs;
+    }
+
+    private void deleteObjects(String fileKey, List<String> keys) {
+        // 원본과 크기별 이미지 함께 삭제 (S3 는 DeleteObjects 한 번으로 처리)
+        try {
+            objectStorage.delete(keys);
+        } catch (Exception e) {
+            // 색인에서는 이미 삭제되었으므로 남은 객체는 정리 작업 대상
+            log.warn("이미지 삭제 실패: key={}, {}", fileKey, e.getMessage());
+        }
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 후 실행 (롤백되면 실행하지 않음)
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private List<String> objectKeys(ImageAsset asset) {
+        List<String> keys = new ArrayList<>();
+        keys.add(asset.getFileKey());
+        if (asset.getVariantSizes() != null && !asset.getVariantSizes().isBlank()) {
+            Arrays.stream(asset.getVariantSizes().split(","))
+                    .map(Integer::parseInt)
+                    .forEach(size -> keys.add(ImageVariantService.variantKey(asset.getFileKey(), size)));
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,333 @@
+package com.tarbonicar.backend.api.aws.s3.service;
+
+import com.tarbonicar.backend.api.article.repository.ArticleRepository;
+import com.tarbonicar.backend.api.aws.s3.entity.ImageGcRun;
+import com.tarbonicar.backend.api.aws.s3.repository.ImageAssetRepository;
+import com.tarbonicar.backend.api.aws.s3.repository.ImageGcRunRepository;
+import com.tarbonicar.backend.api.member.repository.MemberRepository;
+import com.tarbonicar.backend.common.config.chunk.ChunkSize;
+import com.tarbonicar.backend.common.storage.ObjectStorage;
+import com.tarbonicar.backend.common.storage.StoredObject;
+import com.tarbonicar.backend.common.storage.StoredObjectPage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 사용하지 않는 이미지 정리 작업
+// 저장소 목록을 키 순서대로 페이지 단위로 읽으면서 회원 프로필 / 게시글 본문에서 참조하지 않는 업로드를 찾아 삭제
+// 한 번의 업로드(원본 + 크기별 이미지)는 images/{랜덤 문자열}/ 디렉터리 하나에 저장되므로 디렉터리 단위로 판단
+// 참조 중인 디렉터리는 실행마다 게시글 / 회원을 ID 구간 단위로 한 번만 훑어서 수집하고, 삭제 전에 이후 수정된 게시글 / 회원만 다시 확인
+// 실행 기록 잠금은 페이지 점유 / 진행 상황 저장에만 짧게 사용하고, 저장소 목록 조회 / 삭제는 트랜잭션 밖에서 처리
+@Slf4j
+@Service
+public class ImageGcService {
+
+    // 참조 재확인 시 직전 확인 시각보다 앞당겨 조회하는 시간 (수정 시각 기록 후 늦게 커밋된 변경 포함)
+    private static final Duration REFERENCE_RECHECK_OVERLAP = Duration.ofMinutes(10);
+
+    private final ObjectStorage objectStorage;
+    private final ImageGcRunRepository imageGcRunRepository;
+    private final ImageAssetRepository imageAssetRepository;
+    private final MemberRepository memberRepository;
+    private final ArticleRepository articleRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter scannedCounter;
+    private final Counter orphanCounter;
+    private final Counter deletedCounter;
+    private final Counter deleteFailedCounter;
+
+    @Value("${image.gc.prefix:images/}")
+    private String prefix;
+
+    // 목록 조회 / 삭제 요청 1회당 키 수 (S3 최대 1000)
+    @Value("${image.gc.page-size:1000}")
+    private int pageSize;
+
+    @Value("${image.gc.pages-per-run:10}")
+    private int pagesPerRun;
+
+    // 업로드 후 게시글 작성 / 프로필 변경까지 기다리는 시간
+    @Value("${image.gc.grace-period-hours:24}")
+    private long gracePeriodHours;
+
+    // 직전 실행이 끝난 뒤 다음 실행까지의 간격
+    @Value("${image.gc.run-interval-hours:24}")
+    private long runIntervalHours;
+
+    // 참조 수집 시 조회 1회당 ID 구간 크기
+    @Value("${image.gc.reference-scan-chunk-size:1000}")
+    private int referenceScanChunkSize;
+
+    // 페이지 점유 시간 (처리 중 서버가 중단되면 이 시간이 지난 뒤 다른 서버가 같은 페이지부터 이어서 처리)
+    @Value("${image.gc.page-lease-minutes:10}")
+    private long pageLeaseMinutes;
+
+    private final boolean dryRun;
+
+    // 현재 실행에서 수집한 참조 디렉터리 (실행이 바뀌면 다시 수집)
+    // 수집 이후에 저장된 이미지는 유예 기간 또는 사용 횟수(refCount)로 보호됨
+    private Long referenceRunId;
+    private Set<String> referencedDirsOfRun = new HashSet<>();
+    private LocalDateTime referenceCheckedAt;
+
+    public ImageGcService(
+            ObjectStorage objectStorage,
+            ImageGcRunRepository imageGcRunRepository,
+            ImageAssetRepository imageAssetRepository,
+            MemberRepository memberRepository,
+            ArticleRepository articleRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${image.gc.dry-run:true}") boolean dryRun
+    ) {
+        this.objectStorage = objectStorage;
+        this.imageGcRunRepository = imageGcRunRepository;
+        this.imageAssetRepository = imageAssetRepository;
+        this.memberRepository = memberRepository;
+        this.articleRepository = articleRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.dryRun = dryRun;
+
+        // image.gc.*{dryRun=true|false} 메트릭 등록
+        String dryRunTag = String.valueOf(dryRun);
+        this.scannedCounter = Counter.builder("image.gc.scanned").tag("dryRun", dryRunTag).register(meterRegistry);
+        this.orphanCounter = Counter.builder("image.gc.orphaned").tag("dryRun", dryRunTag).register(meterRegistry);
+        this.deletedCounter = Counter.builder("image.gc.deleted").tag("dryRun", dryRunTag).register(meterRegistry);
+        this.deleteFailedCounter = Counter.builder("image.gc.delete.failed").tag("dryRun", dryRunTag).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void validateReferenceScanChunkSize() {
+        ChunkSize.requirePositive("image.gc.reference-scan-chunk-size", referenceScanChunkSize);
+    }
+
+    // 진행 중인 실행을 이어서 처리하거나, 실행 간격이 지났으면 새로 시작
+    public void runSweep() {
+        Long runId = transactionTemplate.execute(status -> currentOrNewRunId());
+        if (runId == null) {
+            return;
+        }
+        if (!runId.equals(referenceRunId)) {
+            referenceCheckedAt = LocalDateTime.now();
+            referencedDirsOfRun = collectReferencedDirs();
+            referenceRunId = runId;
+        }
+
+        for (int i = 0; i < pagesPerRun; i++) {
+            if (!processPage(runId)) {
+                break;
+            }
+        }
+    }
+
+    // 게시글 본문 / 회원 프로필 이미지에서 참조 중인 업로드 디렉터리 수집
+    // 도메인이 바뀌거나 파일명이 인코딩된 URL 도 찾을 수 있도록 디렉터리 경로로 비교
+    private Set<String> collectReferencedDirs() {
+        Set<String> dirs = new HashSet<>();
+
+        long maxArticleId = articleRepository.findMaxId();
+        for (long fromId = 1; fromId <= maxArticleId; fromId += referenceScanChunkSize) {
+            long toId = fromId + referenceScanChunkSize - 1;
+            articleRepository.findContentsByIdBetween(fromId, toId)
+                    .forEach(content -> dirs.addAll(ImageAssetService.uploadDirsIn(content)));
+        }
+
+        long maxMemberId = memberRepository.findMaxId();
+        for (long fromId = 1; fromId <= maxMemberId; fromId += referenceScanChunkSize) {
+            long toId = fromId + referenceScanChunkSize - 1;
+            memberRepository.findProfileImagesByIdBetween(fromId, toId)
+                    .forEach(url -> dirs.addAll(ImageAssetService.uploadDirsIn(url)));
+        }
+
+        log.info("이미지 참조 수집 완료: dirs={}", dirs.size());
+        return dirs;
+    }
+
+    private Long currentOrNewRunId() {
+        ImageGcRun latest = imageGcRunRepository.findTopByOrderByIdDesc().orElse(null);
+        if (latest != null && !latest.isCompleted()) {
+            return latest.getId();
+        }
+        if (latest != null && latest.getCompletedAt().isAfter(LocalDateTime.now().minusHours(runIntervalHours))) {
+            return null;
+        }
+        return imageGcRunRepository.save(new ImageGcRun(dryRun)).getId();
+    }
+
+    // 한 페이지 처리
+    // 1) 실행 기록을 잠그고 페이지를 점유한 뒤 바로 커밋 2) 트랜잭션 밖에서 목록 조회 / 삭제 3) 다시 잠그고 진행 상황 저장
+    private boolean processPage(Long runId) {
+        PageClaim claim = transactionTemplate.execute(status -> claimPage(runId));
+        if (claim == null) {
+            return false;
+        }
+
+        try {
+            StoredObjectPage page = objectStorage.list(prefix, claim.startAfter(), pageSize);
+            List<StoredObject> objects = page.objects();
+
+            Instant cutoff = Instant.now().minus(Duration.ofHours(gracePeriodHours));
+            List<String> orphans = findOrphans(objects, cutoff);
+
+            long deleted = 0;
+            if (!orphans.isEmpty()) {
+                if (claim.dryRun()) {
+                    log.info("[dry-run] 사용하지 않는 이미지 {}건: {} ...", orphans.size(), orphans.get(0));
+                } else {
+                    deleted = deleteOrphans(orphans);
+                }
+            }
+
+            scannedCounter.increment(objects.size());
+            orphanCounter.increment(orphans.size());
+            deletedCounter.increment(deleted);
+
+            String lastKey = objects.isEmpty() ? claim.startAfter() : objects.get(objects.size() - 1).key();
+            long orphanCount = orphans.size();
+            long deletedCount = deleted;
+            Boolean hasNext = transactionTemplate.execute(status ->
+                    advance(runId, claim.startAfter(), lastKey, objects.size(), orphanCount, deletedCount, page.truncated()));
+            return Boolean.TRUE.equals(hasNext);
+        } catch (RuntimeException e) {
+            // 진행 상황은 저장하지 않고 점유만 해제해 다음 주기에 같은 위치부터 다시 처리
+            transactionTemplate.executeWithoutResult(status -> release(runId, claim.startAfter()));
+            throw e;
+        }
+    }
+
+    // 처리할 위치를 읽고 페이지 점유 (다른 서버가 점유 중이거나 완료된 실행이면 null)
+    private PageClaim claimPage(Long runId) {
+        ImageGcRun run = imageGcRunRepository.findByIdForUpdate(runId).orElse(null);
+        if (run == null || run.isCompleted()) {
+            return null;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (!run.claim(now, now.plusMinutes(pageLeaseMinutes))) {
+            return null;
+        }
+        return new PageClaim(run.getStartAfter(), run.isDryRun());
+    }
+
+    // 진행 상황 저장, 다음 페이지가 있으면 true
+    // 점유가 만료되어 다른 서버가 이미 이 페이지를 처리했으면 저장하지 않음
+    private boolean advance(Long runId, String startAfter, String lastKey,
+                            long scanned, long orphans, long deleted, boolean truncated) {
+        ImageGcRun run = imageGcRunRepository.findByIdForUpdate(runId).orElse(null);
+        if (run == null || run.isCompleted() || !Objects.equals(run.getStartAfter(), startAfter)) {
+            return false;
+        }
+
+        run.advance(lastKey, scanned, orphans, deleted);
+        if (!truncated) {
+            run.complete();
+            log.info("이미지 정리 완료: runId={}, dryRun={}, scanned={}, orphans={}, deleted={}",
+                    run.getId(), run.isDryRun(), run.getScannedCount(), run.getOrphanCount(), run.getDeletedCount());
+            return false;
+        }
+        return true;
+    }
+
+    private void release(Long runId, String startAfter) {
+        imageGcRunRepository.findByIdForUpdate(runId)
+                .filter(run -> Objects.equals(run.getStartAfter(), startAfter))
+                .ifPresent(ImageGcRun::release);
+    }
+
+    // 유예 기간이 지났고 어디에서도 참조하지 않는 키 조회
+    private List<String> findOrphans(List<StoredObject> objects, Instant cutoff) {
+        Map<String, List<String>> keysByDir = new LinkedHashMap<>();
+        Set<String> referencedDirs = new HashSet<>();
+
+        for (StoredObject object : objects) {
+            String dir = uploadDir(object.key());
+            keysByDir.computeIfAbsent(dir, d -> new ArrayList<>()).add(object.key());
+            // 유예 기간 내의 객체가 하나라도 있는 업로드는 유지
+            if (!object.lastModified().isBefore(cutoff)) {
+                referencedDirs.add(dir);
+            }
+        }
+
+        List<String> candidateKeys = keysByDir.entrySet().stream()
+                .filter(entry -> !referencedDirs.contains(entry.getKey()))
+                .flatMap(entry -> entry.getValue().stream())
+                .toList();
+        if (candidateKeys.isEmpty()) {
+            return List.of();
+        }
+
+        // 사용 중(refCount > 0)이거나 최근에 재사용(중복 업로드)된 이미지
+        LocalDateTime usedSince = LocalDateTime.now().minusHours(gracePeriodHours);
+        imageAssetRepository.findFileKeysInUseOrUsedSince(candidateKeys, usedSince)
+                .forEach(key -> referencedDirs.add(uploadDir(key)));
+
+        // 게시글 본문 / 회원 프로필 이미지에서 참조 중인 디렉터리는 실행 시작 시 수집한 목록 + 이후 수정분으로 확인
+        refreshReferencedDirs();
+        return candidateKeys.stream()
+                .map(key -> Map.entry(key, uploadDir(key)))
+                .filter(entry -> !referencedDirs.contains(entry.getValue()) && !referencedDirsOfRun.contains(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    // 마지막 확인 이후 수정된 게시글 / 회원의 참조 디렉터리 추가
+    private void refreshReferencedDirs() {
+        LocalDateTime checkedAt = LocalDateTime.now();
+        LocalDateTime since = referenceCheckedAt.minus(REFERENCE_RECHECK_OVERLAP);
+
+        articleRepository.findContentsUpdatedSince(since)
+                .forEach(content -> referencedDirsOfRun.addAll(ImageAssetService.uploadDirsIn(content)));
+        memberRepository.findProfileImagesUpdatedSince(since)
+                .forEach(url -> referencedDirsOfRun.addAll(ImageAssetService.uploadDirsIn(url)));
+
+        referenceCheckedAt = checkedAt;
+    }
+
+    // 색인 삭제 후 일괄 삭제 (S3 는 DeleteObjects 요청 1회당 최대 1000개)
+    private long deleteOrphans(List<String> orphans) {
+        LocalDateTime before = LocalDateTime.now().minusHours(gracePeriodHours);
+        transactionTemplate.executeWithoutResult(status -> imageAssetRepository.deleteByFileKeyInAndUpdatedAtBefore(orphans, before));
+
+        // 색인 삭제 직전에 재사용된 이미지는 제외
+        Set<String> reusedDirs = imageAssetRepository.findFileKeysIn(orphans).stream()
+                .map(this::uploadDir)
+                .collect(Collectors.toSet());
+        List<String> targets = orphans.stream()
+                .filter(key -> !reusedDirs.contains(uploadDir(key)))
+                .toList();
+
+        int failed = objectStorage.delete(targets);
+        if (failed > 0) {
+            deleteFailedCounter.increment(failed);
+        }
+        return targets.size() - failed;
+    }
+
+    private record PageClaim(String startAfter, boolean dryRun) {
+    }
+
+    // images/{랜덤 문자열}/ 까지의 경로 (형식이 다른 키는 키 자체)
+    private String uploadDir(String key) {
+        if (!key.startsWith(prefix)) {
+            return key;
+        }
+        int slash = key.indexOf('/', prefix.length());
+        return (slash < 0) ? key : key.substring(0, slash + 1);
+    }
+}
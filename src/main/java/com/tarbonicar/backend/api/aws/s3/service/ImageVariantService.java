@@ -0,0 +1,348 @@
+package com.tarbonicar.backend.api.aws.s3.service;
+
+import com.tarbonicar.backend.api.aws.s3.dto.ImageVariantResponseDTO;
+import com.tarbonicar.backend.api.aws.s3.entity.ImageAsset;
+import com.tarbonicar.backend.api.aws.s3.entity.ImageVariantStatus;
+import com.tarbonicar.backend.api.aws.s3.repository.ImageAssetRepository;
+import com.tarbonicar.backend.common.exception.NotFoundException;
+import com.tarbonicar.backend.common.response.ErrorStatus;
+import com.tarbonicar.backend.common.storage.ObjectStorage;
+import com.tarbonicar.backend.common.storage.StorageObjectNotFoundException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+// 업로드된 이미지의 크기별 이미지(썸네일) / 원본 크기 / 미리보기 생성
+// 업로드 요청과 분리된 별도 스레드 풀에서 처리하고, 작업 큐가 가득 차면 버린 뒤 재시도 스케줄러가 다시 제출
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+    private static final int PLACEHOLDER_SIZE = 16;
+    private static final float PLACEHOLDER_QUALITY = 0.5f;
+
+    private final ObjectStorage objectStorage;
+    private final ImageAssetRepository imageAssetRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService imageVariantExecutor;
+
+    // 같은 이미지를 동시에 두 번 처리하지 않도록 (재시도 스케줄러와 업로드 직후 제출이 겹치는 경우)
+    private final Set<String> inProgress = ConcurrentHashMap.newKeySet();
+
+    // 생성할 크기 목록 (긴 변 기준 px)
+    @Value("${image.variant.sizes:64,256,1024}")
+    private List<Integer> sizes;
+
+    // 디코딩 허용 최대 픽셀 수 (초과 시 메모리 보호를 위해 생성하지 않음)
+    @Value("${image.variant.max-pixels:40000000}")
+    private long maxPixels;
+
+    @Value("${image.variant.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${image.variant.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    @Value("${image.variant.retry-batch-size:100}")
+    private int retryBatchSize;
+
+    @Value("${image.variant.retry-delay-seconds:60}")
+    private long retryDelaySeconds;
+
+    public ImageVariantService(
+            ObjectStorage objectStorage,
+            ImageAssetRepository imageAssetRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${image.variant.threads:2}") int threads,
+            @Value("${image.variant.queue-capacity:100}") int queueCapacity
+    ) {
+        this.objectStorage = objectStorage;
+        this.imageAssetRepository = imageAssetRepository;
+        this.transactionTemplate = transactionTemplate;
+
+        // 이미지 처리는 CPU / 메모리를 많이 사용하므로 API 스레드와 분리된 작은 풀에서만 실행
+        AtomicInteger sequence = new AtomicInteger();
+        this.imageVariantExecutor = new ThreadPoolExecutor(
+                threads, threads,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.NORM_PRIORITY - 1);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        // ImageIO 임시 파일 대신 메모리 버퍼 사용
+        ImageIO.setUseCache(false);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 처리 중이던 이미지는 PENDING 으로 남아 다음 실행 시 재시도
+        imageVariantExecutor.shutdownNow();
+    }
+
+    // 오래 대기 중인 생성 작업 재제출
+    public void retryPending() {
+        List<String> fileKeys = imageAssetRepository.findFileKeysByStatusAndUpdatedAtBefore(
+                ImageVariantStatus.PENDING,
+                LocalDateTime.now().minusSeconds(retryDelaySeconds),
+                PageRequest.of(0, retryBatchSize)
+        );
+        fileKeys.forEach(this::submit);
+    }
+
+    // 크기별 이미지 URL 조회 (원본 URL 또는 키 모두 허용)
+    public ImageVariantResponseDTO getVariants(String image) {
+        String fileKey = toFileKey(image);
+        ImageAsset asset = imageAssetRepository.findByFileKey(fileKey)
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_UPLOAD_IMAGE_EXCEPTION.getMessage()));
+
+        Map<Integer, String> variants = new TreeMap<>();
+        if (asset.getStatus() == ImageVariantStatus.READY) {
+            Set<Integer> generated = parseSizes(asset.getVariantSizes());
+            for (int size : sizes) {
+                // 원본보다 큰 크기는 생성하지 않으므로 원본 URL 사용
+                variants.put(size, toImageUrl(generated.contains(size) ? variantKey(fileKey, size) : fileKey));
+            }
+        }
+
+        return new ImageVariantResponseDTO(
+                toImageUrl(fileKey),
+                asset.getStatus(),
+                asset.getWidth(),
+                asset.getHeight(),
+                asset.getPlaceholder(),
+                variants
+        );
+    }
+
+    // 크기별 이미지 키 (images/abc/abc_2025-01-01_00:00:00.png -> images/abc/abc_2025-01-01_00:00:00_w256.jpg)
+    public static String variantKey(String fileKey, int size) {
+        int slash = fileKey.lastIndexOf('/');
+        int dot = fileKey.lastIndexOf('.');
+        String base = (dot > slash) ? fileKey.substring(0, dot) : fileKey;
+        return base + "_w" + size + ".jpg";
+    }
+
+    // 가장 큰 크기의 2배 이상만 남도록 읽으면서 건너뛸 픽셀 간격 (디코딩 메모리 절약)
+    static int subsampling(int width, int height, int largestSize) {
+        return Math.max(1, Math.max(width, height) / (largestSize * 2));
+    }
+
+    // 생성 작업 제출 (작업 큐가 가득 차면 PENDING 으로 남겨두고 재시도 스케줄러에서 다시 제출)
+    public void submit(String fileKey) {
+        if (!inProgress.add(fileKey)) {
+            return;
+        }
+        try {
+            imageVariantExecutor.execute(() -> {
+                try {
+                    generate(fileKey);
+                } finally {
+                    inProgress.remove(fileKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 작업 큐가 가득 찬 경우 PENDING 으로 남겨두고 재시도 스케줄러에서 다시 제출
+            inProgress.remove(fileKey);
+            log.debug("이미지 생성 작업 큐 초과, 재시도 대기: key={}", fileKey);
+        }
+    }
+
+    private void generate(String fileKey) {
+        ImageAsset asset = imageAssetRepository.findByFileKey(fileKey).orElse(null);
+        if (asset == null || asset.getStatus() != ImageVariantStatus.PENDING) {
+            return;
+        }
+
+        try {
+            List<Integer> targetSizes = sizes.stream()
+                    .distinct()
+                    .sorted(Comparator.reverseOrder())
+                    .toList();
+            int largestSize = targetSizes.isEmpty() ? PLACEHOLDER_SIZE : targetSizes.get(0);
+
+            int width;
+            int height;
+            BufferedImage source;
+            try (InputStream inputStream = objectStorage.get(fileKey);
+                 ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+
+                Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+                if (!readers.hasNext()) {
+                    // 지원하지 않는 형식 (webp 등)
+                    failPermanently(fileKey, "지원하지 않는 이미지 형식");
+                    return;
+                }
+
+                ImageReader reader = readers.next();
+                try {
+                    reader.setInput(imageInputStream, true, true);
+                    width = reader.getWidth(0);
+                    height = reader.getHeight(0);
+                    if ((long) width * height > maxPixels) {
+                        failPermanently(fileKey, "최대 픽셀 수 초과 " + width + "x" + height);
+                        return;
+                    }
+
+                    ImageReadParam param = reader.getDefaultReadParam();
+                    int subsampling = subsampling(width, height, largestSize);
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                    source = reader.read(0, param);
+                } finally {
+                    reader.dispose();
+                }
+            }
+
+            // 큰 크기부터 생성하고, 직전 결과를 다음 크기의 원본으로 사용
+            int longest = Math.max(width, height);
+            List<Integer> generated = new ArrayList<>();
+            BufferedImage current = source;
+            for (int size : targetSizes) {
+                if (size >= longest) {
+                    continue;
+                }
+                current = resize(current, size);
+                putVariant(variantKey(fileKey, size), encodeJpeg(current, jpegQuality));
+                generated.add(size);
+            }
+
+            String placeholder = "data:" + VARIANT_CONTENT_TYPE + ";base64,"
+                    + Base64.getEncoder().encodeToString(encodeJpeg(resize(current, PLACEHOLDER_SIZE), PLACEHOLDER_QUALITY));
+
+            String variantSizes = generated.stream().sorted().map(String::valueOf).collect(Collectors.joining(","));
+            int originalWidth = width;
+            int originalHeight = height;
+            updateAsset(fileKey, target -> target.ready(originalWidth, originalHeight, variantSizes, placeholder));
+
+        } catch (StorageObjectNotFoundException e) {
+            failPermanently(fileKey, "원본 이미지 없음");
+        } catch (Exception e) {
+            log.warn("크기별 이미지 생성 실패: key={}, {}", fileKey, e.getMessage());
+            updateAsset(fileKey, target -> target.fail(maxAttempts));
+        }
+    }
+
+    private void failPermanently(String fileKey, String reason) {
+        log.warn("크기별 이미지 생성 불가: key={}, {}", fileKey, reason);
+        updateAsset(fileKey, ImageAsset::failPermanently);
+    }
+
+    // 생성 도중 사용 횟수가 바뀌었을 수 있으므로 다시 조회해서 변경 (변경된 컬럼만 UPDATE)
+    private void updateAsset(String fileKey, Consumer<ImageAsset> change) {
+        transactionTemplate.executeWithoutResult(status ->
+                imageAssetRepository.findByFileKey(fileKey).ifPresent(change));
+    }
+
+    // 긴 변을 longestSide 로 맞춰 축소
+    private BufferedImage resize(BufferedImage source, int longestSide) {
+        int sourceLongest = Math.max(source.getWidth(), source.getHeight());
+        if (sourceLongest <= longestSide) {
+            return source;
+        }
+        int targetWidth = Math.max(1, Math.round((float) source.getWidth() * longestSide / sourceLongest));
+        int targetHeight = Math.max(1, Math.round((float) source.getHeight() * longestSide / sourceLongest));
+
+        // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄인 뒤 마지막에 목표 크기로 맞춤
+        BufferedImage current = source;
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        return draw(current, targetWidth, targetHeight);
+    }
+
+    // 투명 영역은 흰색으로 채움 (JPEG 는 알파 채널 없음)
+    private BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+
+    private void putVariant(String key, byte[] bytes) {
+        objectStorage.put(key, bytes, VARIANT_CONTENT_TYPE);
+    }
+
+    private Set<Integer> parseSizes(String variantSizes) {
+        if (variantSizes == null || variantSizes.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(variantSizes.split(","))
+                .map(Integer::valueOf)
+                .collect(Collectors.toSet());
+    }
+
+    private String toFileKey(String image) {
+        String fileKey = objectStorage.keyOf(image);
+        return (fileKey != null) ? fileKey : image;
+    }
+
+    private String toImageUrl(String fileKey) {
+        return objectStorage.url(fileKey);
+    }
+}
@@ -1,83 +1,319 @@
 package com.tarbonicar.backend.api.aws.s3.service;
 
+import com.tarbonicar.backend.api.aws.s3.dto.PresignedUploadRequestDTO;
+import com.tarbonicar.backend.api.aws.s3.dto.PresignedUploadResponseDTO;
+import com.tarbonicar.backend.api.aws.s3.entity.PresignedUploadTicket;
+import com.tarbonicar.backend.api.aws.s3.repository.PresignedUploadTicketRepository;
+import com.tarbonicar.backend.common.exception.BadRequestException;
+import com.tarbonicar.backend.common.exception.InternalServerException;
+import com.tarbonicar.backend.common.exception.NotFoundException;
+import com.tarbonicar.backend.common.exception.ServiceUnavailableException;
 import com.tarbonicar.backend.common.response.ErrorStatus;
-import lombok.RequiredArgsConstructor;
+import com.tarbonicar.backend.common.storage.ObjectStorage;
+import com.tarbonicar.backend.common.storage.PresignedUpload;
+import com.tarbonicar.backend.common.storage.PresignedUploadStorage;
+import com.tarbonicar.backend.common.storage.StorageCallbacks;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.RandomStringUtils;
-import org.apache.coyote.BadRequestException;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.core.sync.RequestBody;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.SimpleDateFormat;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
 
+// 이미지 업로드 / 삭제 (실제 저장은 storage.type 에 따라 선택된 ObjectStorage 구현이 담당)
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class S3Service {
-    private final S3Client s3Client;
+    private static final String UPLOAD_DIR = "images";
 
-    @Value("${cloud.aws.s3.bucketName}")
-    private String bucketName;
+    private final ObjectStorage objectStorage;
+    private final ImageAssetService imageAssetService;
+    private final PresignedUploadTicketRepository presignedUploadTicketRepository;
+    private final ExecutorService storageCallbackExecutor;
 
-    @Value("${cloud.aws.s3.domain}")
-    private String domain;
+    // 동시에 진행 중인 업로드 수 제한 (초과 시 대기하지 않고 바로 503 응답)
+    private final Semaphore uploadPermits;
 
-    public String uploadImage(MultipartFile file) throws IOException {
+    // presigned 업로드 허용 파일 형식 / 최대 크기 / URL 유효 시간
+    @Value("${cloud.aws.s3.allowed-content-types:image/jpeg,image/png,image/gif,image/webp}")
+    private List<String> allowedContentTypes;
+
+    @Value("${cloud.aws.s3.max-upload-bytes:10485760}")
+    private long maxUploadBytes;
+
+    @Value("${cloud.aws.s3.presigned-expire-minutes:10}")
+    private long presignedExpireMinutes;
+
+    // presigned URL 만료 후에도 업로드 완료 요청을 받는 시간 (만료 직전에 시작한 업로드 대비)
+    @Value("${cloud.aws.s3.presigned-complete-grace-minutes:10}")
+    private long presignedCompleteGraceMinutes;
+
+    public S3Service(
+            ObjectStorage objectStorage,
+            ImageAssetService imageAssetService,
+            PresignedUploadTicketRepository presignedUploadTicketRepository,
+            @Qualifier("storageCallbackExecutor") ExecutorService storageCallbackExecutor,
+            @Value("${cloud.aws.s3.max-in-flight-uploads:8}") int maxInFlightUploads
+    ) {
+        this.objectStorage = objectStorage;
+        this.imageAssetService = imageAssetService;
+        this.presignedUploadTicketRepository = presignedUploadTicketRepository;
+        this.storageCallbackExecutor = storageCallbackExecutor;
+        this.uploadPermits = new Semaphore(maxInFlightUploads);
+    }
+
+    // 이미지 비동기 업로드 후 URL 반환
+    // 반환된 future 는 업로드 후처리 스레드 풀에서 완료됨 (이어지는 DB 작업은 afterUpload 로 같은 풀에서 실행)
+    // 업로드하면서 SHA-256 을 함께 계산하고, 같은 내용의 이미지가 이미 있으면 방금 올린 객체를 지우고 기존 URL 반환
+    public CompletableFuture<String> uploadImage(MultipartFile file) {
         if (file == null || file.isEmpty()) {
+            return CompletableFuture.failedFuture(new BadRequestException(ErrorStatus.MISSING_UPLOAD_IMAGE_EXCEPTION.getMessage()));
+        }
+        if (!uploadPermits.tryAcquire()) {
+            return CompletableFuture.failedFuture(new ServiceUnavailableException(ErrorStatus.TOO_MANY_UPLOADS_EXCEPTION.getMessage()));
+        }
+
+        try {
+            return putImage(file)
+                    .whenComplete((url, e) -> uploadPermits.release());
+        } catch (RejectedExecutionException e) {
+            // 업로드 스레드 풀의 작업 큐가 가득 찬 경우
+            uploadPermits.release();
+            return CompletableFuture.failedFuture(StorageCallbacks.tooManyUploads());
+        }
+    }
+
+    // 업로드 완료 후 DB 작업 실행 (업로드 후처리 스레드 풀에서 실행해 업로드 스레드의 DB 커넥션 점유 방지)
+    public <R> CompletableFuture<R> afterUpload(CompletableFuture<String> upload, Function<String, R> callback) {
+        return StorageCallbacks.thenApplyAsync(upload, callback, storageCallbackExecutor);
+    }
+
+    private CompletableFuture<String> putImage(MultipartFile file) {
+        String fileKey = createFileKey(file.getOriginalFilename());
+
+        DigestInputStream inputStream;
+        try {
+            inputStream = new DigestInputStream(file.getInputStream(), MessageDigest.getInstance("SHA-256"));
+        } catch (IOException | NoSuchAlgorithmException e) {
+            return CompletableFuture.failedFuture(new InternalServerException(ErrorStatus.FAIL_UPLOAD_EXCEPTION.getMessage()));
+        }
+
+        return StorageCallbacks.handleAsync(objectStorage.put(fileKey, inputStream, file.getSize(), file.getContentType()),
+                (result, e) -> {
+                    closeQuietly(inputStream);
+                    if (StorageCallbacks.isRejected(e)) {
+                        throw StorageCallbacks.tooManyUploads();
+                    }
+                    if (e != null) {
+                        log.warn("이미지 업로드 실패: key={}, {}", fileKey, e.getMessage());
+                        throw new InternalServerException(ErrorStatus.FAIL_UPLOAD_EXCEPTION.getMessage());
+                    }
+
+                    // 전송한 내용의 SHA-256 (업로드가 끝났으므로 스트림을 모두 읽은 상태)
+                    String contentHash = HexFormat.of().formatHex(inputStream.getMessageDigest().digest());
+
+                    // 같은 내용의 이미지가 이미 있으면 기존 키 사용
+                    String existingKey = imageAssetService.reuse(contentHash).orElse(null);
+                    if (existingKey != null) {
+                        deleteObject(fileKey);
+                        return toImageUrl(existingKey);
+                    }
+
+                    // 색인 등록 (크기별 이미지 생성은 별도 스레드 풀에서 진행)
+                    // 같은 내용이 동시에 먼저 등록되었으면 방금 올린 객체는 지우고 먼저 등록된 객체 사용
+                    String registeredKey;
+                    try {
+                        registeredKey = imageAssetService.register(fileKey, contentHash);
+                    } catch (RuntimeException registerError) {
+                        // 색인에 없는 이미지는 사용 횟수를 관리할 수 없으므로 방금 올린 객체를 지우고 실패 응답
+                        log.warn("이미지 색인 등록 실패: key={}, {}", fileKey, registerError.getMessage());
+                        deleteObject(fileKey);
+                        throw new InternalServerException(ErrorStatus.FAIL_UPLOAD_EXCEPTION.getMessage());
+                    }
+                    if (!registeredKey.equals(fileKey)) {
+                        deleteObject(fileKey);
+                    }
+                    // 완전한 URL 반환
+                    return toImageUrl(registeredKey);
+                }, storageCallbackExecutor);
+    }
+
+    // 버킷 직접 업로드용 presigned PUT URL 발급
+    // Content-Type, Content-Length 를 서명에 포함하므로 클라이언트는 발급받은 형식/크기 그대로만 업로드 가능
+    // 발급한 키와 회원을 기록해 두고, 업로드 완료 요청은 기록된 키에 대해서만 처리
+    public PresignedUploadResponseDTO createPresignedUpload(PresignedUploadRequestDTO request, Long memberId) {
+        if (!(objectStorage instanceof PresignedUploadStorage presignedUploadStorage)) {
+            throw new BadRequestException(ErrorStatus.UNSUPPORTED_PRESIGNED_UPLOAD_EXCEPTION.getMessage());
+        }
+        if (request.getContentType() == null || !allowedContentTypes.contains(request.getContentType())) {
+            throw new BadRequestException(ErrorStatus.INVALID_UPLOAD_CONTENT_TYPE_EXCEPTION.getMessage());
+        }
+        if (request.getContentLength() == null || request.getContentLength() <= 0) {
             throw new BadRequestException(ErrorStatus.MISSING_UPLOAD_IMAGE_EXCEPTION.getMessage());
         }
+        if (request.getContentLength() > maxUploadBytes) {
+            throw new BadRequestException(ErrorStatus.UPLOAD_SIZE_EXCEEDED_EXCEPTION.getMessage());
+        }
+
+        String fileKey = createFileKey(request.getFileName());
 
-        String dir = "images";
+        PresignedUpload presigned = presignedUploadStorage.presignPut(fileKey, request.getContentType(),
+                request.getContentLength(), Duration.ofMinutes(presignedExpireMinutes));
+
+        LocalDateTime completeUntil = LocalDateTime.ofInstant(presigned.expiresAt(), ZoneId.systemDefault())
+                .plusMinutes(presignedCompleteGraceMinutes);
+        presignedUploadTicketRepository.save(new PresignedUploadTicket(fileKey, memberId, completeUntil));
+
+        return new PresignedUploadResponseDTO(
+                presigned.url(),
+                fileKey,
+                toImageUrl(fileKey),
+                presigned.headers(),
+                presigned.expiresAt()
+        );
+    }
+
+    // presigned 업로드 완료 확인 (객체가 실제로 있고 형식/크기가 허용 범위인지 확인 후 이미지 URL 반환)
+    // 이 회원에게 발급한 키가 아니면 객체를 확인하지 않고 거절 (다른 경로로 올라간 객체는 삭제하지 않음)
+    public CompletableFuture<String> completePresignedUpload(String fileKey, Long memberId) {
+        if (fileKey == null || !fileKey.startsWith(UPLOAD_DIR + "/") || fileKey.contains("..")) {
+            return CompletableFuture.failedFuture(new BadRequestException(ErrorStatus.INVALID_UPLOAD_KEY_EXCEPTION.getMessage()));
+        }
+
+        PresignedUploadTicket ticket = presignedUploadTicketRepository.findByFileKey(fileKey)
+                .filter(t -> t.isIssuedTo(memberId))
+                .orElse(null);
+        if (ticket == null) {
+            return CompletableFuture.failedFuture(new BadRequestException(ErrorStatus.INVALID_UPLOAD_KEY_EXCEPTION.getMessage()));
+        }
+        if (ticket.isExpired(LocalDateTime.now())) {
+            return CompletableFuture.failedFuture(new BadRequestException(ErrorStatus.EXPIRED_PRESIGNED_UPLOAD_EXCEPTION.getMessage()));
+        }
+
+        // 직접 업로드와 같은 동시 처리 수 제한 적용
+        if (!uploadPermits.tryAcquire()) {
+            return CompletableFuture.failedFuture(StorageCallbacks.tooManyUploads());
+        }
+
+        return StorageCallbacks.handleAsync(objectStorage.head(fileKey),
+                (metadata, e) -> {
+                    if (e != null) {
+                        log.warn("업로드 이미지 확인 실패: key={}, {}", fileKey, e.getMessage());
+                        throw new InternalServerException(ErrorStatus.FAIL_UPLOAD_EXCEPTION.getMessage());
+                    }
+                    if (metadata.isEmpty()) {
+                        throw new NotFoundException(ErrorStatus.NOT_FOUND_UPLOAD_IMAGE_EXCEPTION.getMessage());
+                    }
+
+                    // 완료 처리는 발급 기록당 한 번만 (동시에 같은 키로 요청한 경우 한 요청만 처리)
+                    if (presignedUploadTicketRepository.consume(fileKey, memberId) == 0) {
+                        throw new BadRequestException(ErrorStatus.INVALID_UPLOAD_KEY_EXCEPTION.getMessage());
+                    }
+
+                    // 허용 범위를 벗어난 객체는 사용하지 않으므로 삭제 (이 흐름으로 발급한 키이므로 삭제해도 안전)
+                    if (metadata.get().contentLength() > maxUploadBytes) {
+                        deleteObject(fileKey);
+                        throw new BadRequestException(ErrorStatus.UPLOAD_SIZE_EXCEEDED_EXCEPTION.getMessage());
+                    }
+                    if (!allowedContentTypes.contains(metadata.get().contentType())) {
+                        deleteObject(fileKey);
+                        throw new BadRequestException(ErrorStatus.INVALID_UPLOAD_CONTENT_TYPE_EXCEPTION.getMessage());
+                    }
+                    try {
+                        imageAssetService.register(fileKey, null);
+                    } catch (RuntimeException registerError) {
+                        log.warn("이미지 색인 등록 실패: key={}, {}", fileKey, registerError.getMessage());
+                        deleteObject(fileKey);
+                        throw new InternalServerException(ErrorStatus.FAIL_UPLOAD_EXCEPTION.getMessage());
+                    }
+                    return toImageUrl(fileKey);
+                }, storageCallbackExecutor)
+                .whenComplete((url, e) -> uploadPermits.release());
+    }
+
+    // 완료되지 않고 만료된 presigned 업로드 발급 기록 삭제
+    public int purgeExpiredPresignedUploads() {
+        return presignedUploadTicketRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private String toImageUrl(String fileKey) {
+        return objectStorage.url(fileKey);
+    }
+
+    // 저장소의 키 (경로) 구성
+    private String createFileKey(String originalFilename) {
+        String dir = UPLOAD_DIR;
         // 한 번만 생성되는 랜덤 문자열
         String randomString = RandomStringUtils.randomAlphanumeric(16);
         String currentDateTime = new SimpleDateFormat("yyyy-MM-dd_HH:mm:ss").format(new Date());
 
         // 원본 파일명 분리
-        String originalFilename = file.getOriginalFilename();
-        String baseName = originalFilename != null && originalFilename.contains(".")
-                ? originalFilename.substring(0, originalFilename.lastIndexOf("."))
-                : (originalFilename == null ? "file" : originalFilename);
         String extension = originalFilename != null && originalFilename.contains(".")
                 ? originalFilename.substring(originalFilename.lastIndexOf("."))
                 : "";
 
         // 저장할 파일명 구성
-        //String fileName = baseName + "_" + currentDateTime + extension;
         String fileName = randomString + "_" + currentDateTime + extension;
 
-        // S3 의 키 (경로) 구성
-        String fileKey = String.format("%s/%s/%s",
-                dir, randomString, fileName);
-
-        // S3에 업로드
-        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                .bucket(bucketName)
-                .key(fileKey)
-                .acl("public-read")
-                .build();
-        s3Client.putObject(putObjectRequest,
-                RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
-
-        // 완전한 URL 반환
-        return domain + "/" + bucketName + "/" + fileKey;
+        return String.format("%s/%s/%s", dir, randomString, fileName);
+    }
+
+    private void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException ignored) {
+            // 업로드 결과에는 영향 없음
+        }
+    }
+
+    // 회원 프로필 등에 저장할 이미지 사용 시작
+    // 이 저장소에 업로드되어 색인된 이미지만 사용 횟수를 늘리고, 외부 URL / 기본 이미지 / 색인 도입 이전 업로드는 그대로 허용
+    // (색인에 없는 이미지는 정리 작업이 회원 프로필 참조를 확인하므로 삭제되지 않음)
+    public void acquireImage(String imageUrl) {
+        String fileKey = objectStorage.keyOf(imageUrl);
+        if (fileKey == null || !imageAssetService.acquire(fileKey)) {
+            log.debug("사용 횟수를 관리하지 않는 이미지: {}", imageUrl);
+        }
+    }
+
+    // 이미지 사용 종료 (같은 내용을 사용하는 곳이 남아 있지 않으면 삭제)
+    public void releaseImage(String imageUrl) {
+        String fileKey = objectStorage.keyOf(imageUrl);
+        if (fileKey != null) {
+            imageAssetService.release(fileKey);
+        }
+    }
+
+    private void deleteObject(String fileKey) {
+        try {
+            objectStorage.delete(fileKey);
+        } catch (Exception e) {
+            log.warn("이미지 삭제 실패: key={}, {}", fileKey, e.getMessage());
+        }
     }
 
     public void deleteFile(String imageUrl) {
-        if (imageUrl != null && imageUrl.startsWith(domain)) {
-            // AWS S3
-            //String fileKey = imageUrl.replace(domain + "/", "");
-            // rhkr8521-Bucket
-            String fileKey = imageUrl.replace(domain + "/" + bucketName + "/", "");
-            DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(fileKey)
-                    .build();
-            s3Client.deleteObject(deleteObjectRequest);
+        String fileKey = objectStorage.keyOf(imageUrl);
+        if (fileKey != null) {
+            objectStorage.delete(fileKey);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,149 @@
+package com.tarbonicar.backend.api.category.cache;
+
+import com.tarbonicar.backend.api.category.entity.CarAge;
+import com.tarbonicar.backend.api.category.entity.CarName;
+import com.tarbonicar.backend.api.category.entity.CarType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+// 차종 -> 차량 -> 연식 카테고리 트리 (불변 스냅샷)
+// 카테고리 조회 API 응답과 게시글 목록의 carType / carName / carAge 이름 조건 변환에 사용
+// 카테고리가 바뀔 때마다 새 버전의 트리로 통째로 교체되며, version 은 클라이언트 캐시 확인용으로 노출
+public class CategoryTree {
+
+    private final long version;
+    private final List<TypeNode> types;
+    private final Map<String, TypeNode> typesByName;
+    private final Map<Long, AgeNode> agesById;
+
+    private CategoryTree(long version, List<TypeNode> types, Map<Long, AgeNode> agesById) {
+        this.version = version;
+        this.types = types;
+        this.agesById = agesById;
+
+        Map<String, TypeNode> byName = new HashMap<>();
+        types.forEach(type -> byName.putIfAbsent(type.carType(), type));
+        this.typesByName = Map.copyOf(byName);
+    }
+
+    public static CategoryTree of(long version, List<CarType> carTypes, List<CarName> carNames, List<CarAge> carAges) {
+
+        // 차량 ID -> 연식 목록 (연식 최신순)
+        Map<Long, List<CarAge>> agesByNameId = new HashMap<>();
+        for (CarAge age : carAges) {
+            agesByNameId.computeIfAbsent(age.getCarName().getId(), k -> new ArrayList<>()).add(age);
+        }
+
+        // 차종 ID -> 차량 목록
+        Map<Long, List<CarName>> namesByTypeId = new HashMap<>();
+        for (CarName name : carNames) {
+            namesByTypeId.computeIfAbsent(name.getCarType().getId(), k -> new ArrayList<>()).add(name);
+        }
+
+        List<TypeNode> types = new ArrayList<>();
+        Map<Long, AgeNode> agesById = new HashMap<>();
+
+        for (CarType type : sortedById(carTypes, CarType::getId)) {
+            List<NameNode> names = new ArrayList<>();
+
+            for (CarName name : sortedById(namesByTypeId.getOrDefault(type.getId(), List.of()), CarName::getId)) {
+                List<AgeNode> ages = agesByNameId.getOrDefault(name.getId(), List.of()).stream()
+                        .sorted(Comparator.comparingInt(CarAge::getCarAge).reversed().thenComparing(CarAge::getId))
+                        .map(age -> new AgeNode(age.getId(), age.getCarAge(), name.getId(), name.getCarName(), type.getId(), type.getCarType()))
+                        .toList();
+                ages.forEach(age -> agesById.put(age.id(), age));
+
+                names.add(new NameNode(name.getId(), name.getCarName(), ages));
+            }
+            types.add(new TypeNode(type.getId(), type.getCarType(), List.copyOf(names)));
+        }
+
+        return new CategoryTree(version, List.copyOf(types), Map.copyOf(agesById));
+    }
+
+    // 이름 조건 + category id 조건을 category_age_id 목록으로 변환 (두 조건은 AND)
+    // 아무 조건도 없으면 null (카테고리 필터 없음), 일치하는 연식이 없으면 빈 Set
+    public Set<Long> resolveCarAgeIds(String carType, List<String> carNames, List<Integer> carAges, Collection<Long> categoryIds) {
+        boolean hasType = carType != null && !carType.isEmpty();
+        boolean hasNames = carNames != null && !carNames.isEmpty();
+        boolean hasAges = carAges != null && !carAges.isEmpty();
+        boolean hasIds = categoryIds != null && !categoryIds.isEmpty();
+
+        if (!hasType && !hasNames && !hasAges && !hasIds) {
+            return null;
+        }
+
+        Set<Long> result = new LinkedHashSet<>();
+        for (AgeNode age : agesById.values()) {
+            if ((!hasType || carType.equals(age.carType()))
+                    && (!hasNames || carNames.contains(age.carName()))
+                    && (!hasAges || carAges.contains(age.carAge()))
+                    && (!hasIds || categoryIds.contains(age.id()))) {
+                result.add(age.id());
+            }
+        }
+        return result;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<TypeNode> getTypes() {
+        return types;
+    }
+
+    public Optional<TypeNode> findType(String carType) {
+        return Optional.ofNullable(typesByName.get(carType));
+    }
+
+    // 차량 이름으로 조회 (여러 차종에 같은 이름이 있으면 ID 가 가장 작은 차량)
+    public Optional<NameNode> findName(String carName) {
+        return types.stream()
+                .flatMap(type -> type.names().stream())
+                .filter(name -> name.carName().equals(carName))
+                .min(Comparator.comparing(NameNode::id));
+    }
+
+    // 전체 연식 (차종/차량 ID 순)
+    public List<AgeNode> getAllAges() {
+        return types.stream()
+                .flatMap(type -> type.names().stream())
+                .flatMap(name -> name.ages().stream())
+                .toList();
+    }
+
+    public AgeNode getAge(Long carAgeId) {
+        return agesById.get(carAgeId);
+    }
+
+    private static <T> List<T> sortedById(Collection<T> values, Function<T, Long> idOf) {
+        return values.stream()
+                .sorted(Comparator.comparing(idOf))
+                .toList();
+    }
+
+    public record TypeNode(Long id, String carType, List<NameNode> names) {
+
+        public Optional<NameNode> findName(String carName) {
+            return names.stream()
+                    .filter(name -> name.carName().equals(carName))
+                    .findFirst();
+        }
+    }
+
+    public record NameNode(Long id, String carName, List<AgeNode> ages) {
+    }
+
+    public record AgeNode(Long id, int carAge, Long carNameId, String carName, Long carTypeId, String carType) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.tarbonicar.backend.api.category.cache;
+
+import com.tarbonicar.backend.api.category.repository.CarAgeRepository;
+import com.tarbonicar.backend.api.category.repository.CarNameRepository;
+import com.tarbonicar.backend.api.category.repository.CarTypeRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 카테고리 트리 캐시
+// 처음 사용할 때 전체 카테고리를 읽어 트리를 만들고, 카테고리 등록/삭제가 커밋된 후 새 버전의 트리로 교체
+// 조회하는 쪽은 get() 으로 얻은 하나의 스냅샷만 사용하므로 교체 중에도 일관된 트리를 봄
+@Component
+public class CategoryTreeCache {
+
+    private final CarTypeRepository carTypeRepository;
+    private final CarNameRepository carNameRepository;
+    private final CarAgeRepository carAgeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile CategoryTree tree;
+
+    public CategoryTreeCache(
+            CarTypeRepository carTypeRepository,
+            CarNameRepository carNameRepository,
+            CarAgeRepository carAgeRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.carTypeRepository = carTypeRepository;
+        this.carNameRepository = carNameRepository;
+        this.carAgeRepository = carAgeRepository;
+
+        // 커밋 직후(afterCommit)에도 새로 커밋된 데이터를 읽도록 별도 읽기 전용 트랜잭션 사용
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public CategoryTree get() {
+        CategoryTree current = tree;
+        if (current == null) {
+            synchronized (this) {
+                current = tree;
+                if (current == null) {
+                    current = load();
+                    tree = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    // 카테고리 변경 시 (트랜잭션 커밋 후 다시 읽음)
+    public void refresh() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reload();
+                }
+            });
+        } else {
+            reload();
+        }
+    }
+
+    private synchronized void reload() {
+        tree = load();
+    }
+
+    private CategoryTree load() {
+        // 재시작 후에도 이전 버전과 겹치지 않도록 현재 시각(ms) 이상으로 증가
+        CategoryTree previous = tree;
+        long version = Math.max((previous == null) ? 0 : previous.getVersion() + 1, System.currentTimeMillis());
+
+        return transactionTemplate.execute(status -> CategoryTree.of(
+                version,
+                carTypeRepository.findAll(),
+                carNameRepository.findAll(),
+                carAgeRepository.findAll()
+        ));
+    }
+}
@@ -4,6 +4,9 @@ import com.tarbonicar.backend.api.category.dto.CarAgeResponseDTO;
 import com.tarbonicar.backend.api.category.dto.CarNameResponseDTO;
 import com.tarbonicar.backend.api.category.dto.CarTypeResponseDTO;
 import com.tarbonicar.backend.api.category.dto.CategoryCreateDTO;
+import com.tarbonicar.backend.api.category.dto.CategoryImportResponseDTO;
+import com.tarbonicar.backend.api.category.dto.CategoryVersionResponseDTO;
+import com.tarbonicar.backend.api.category.service.CategoryImportService;
 import com.tarbonicar.backend.api.category.service.CategoryService;
 import com.tarbonicar.backend.common.response.ApiResponse;
 import com.tarbonicar.backend.common.response.SuccessStatus;
@@ -11,8 +14,10 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -24,6 +29,7 @@ import java.util.stream.Collectors;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final CategoryImportService categoryImportService;
 
     @Operation(
             summary = "카테고리 등록 API", description = "새로운 카테고리를 등록합니다.")
@@ -37,6 +43,32 @@ public class CategoryController {
         return ApiResponse.success_only(SuccessStatus.CREATE_CATEGORY_SUCCESS);
     }
 
+    @Operation(
+            summary = "카테고리 일괄 등록 API",
+            description = "CSV 또는 NDJSON 파일로 카테고리를 한 번에 등록합니다. <br>" + "CSV : carType,carName,carAge (첫 줄 헤더 생략 가능) <br>" + "NDJSON(.ndjson, .jsonl) : 한 줄에 {\"carType\":\"SUV\",\"carName\":\"투싼\",\"carAge\":2024} <br>" + "이미 등록된 연식은 건너뛰고, 등록/건너뜀/오류 행 수를 반환합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "카테고리 일괄 등록 성공")
+    })
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<CategoryImportResponseDTO>> importCategory(@RequestParam(value = "file") MultipartFile file) {
+
+        CategoryImportResponseDTO result = categoryImportService.importCategories(file);
+        return ApiResponse.success(SuccessStatus.IMPORT_CATEGORY_SUCCESS, result);
+    }
+
+    @Operation(
+            summary = "카테고리 버전 조회 API",
+            description = "카테고리 버전을 조회합니다. <br>" + "카테고리가 등록/삭제될 때마다 값이 커지므로, 버전이 같으면 이전에 받은 카테고리 조회 결과를 그대로 사용할 수 있습니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "카테고리 버전 조회 성공")
+    })
+    @GetMapping("/search/version")
+    public ResponseEntity<ApiResponse<CategoryVersionResponseDTO>> getCategoryVersion() {
+
+        long version = categoryService.getCategoryVersion();
+        return ApiResponse.success(SuccessStatus.SEND_CATEGORY_VERSION_SUCCESS, new CategoryVersionResponseDTO(version));
+    }
+
     @Operation(summary = "차종 카테고리 조회 API", description = "등록 된 차종 리스트를 조회합니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "차량 종류 카테고리 조회 성공")
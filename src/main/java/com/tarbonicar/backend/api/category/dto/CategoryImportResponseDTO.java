@@ -0,0 +1,15 @@
+package com.tarbonicar.backend.api.category.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CategoryImportResponseDTO {
+
+    private long insertedCount; // 새로 등록된 차량 연식 수
+    private long skippedCount; // 이미 등록되어 있거나 파일 안에서 중복된 행 수
+    private long invalidCount; // 형식이 올바르지 않아 건너뛴 행 수
+    private long insertedCarTypeCount; // 새로 등록된 차종 수
+    private long insertedCarNameCount; // 새로 등록된 차량 수
+}
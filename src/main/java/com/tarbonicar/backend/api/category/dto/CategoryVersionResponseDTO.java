@@ -0,0 +1,11 @@
+package com.tarbonicar.backend.api.category.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CategoryVersionResponseDTO {
+
+    private long version;
+}
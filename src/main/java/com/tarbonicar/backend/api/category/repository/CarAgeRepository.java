@@ -3,6 +3,9 @@ package com.tarbonicar.backend.api.category.repository;
 import com.tarbonicar.backend.api.category.entity.CarAge;
 import com.tarbonicar.backend.api.category.entity.CarName;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -11,4 +14,14 @@ public interface CarAgeRepository extends JpaRepository<CarAge, Long> {
     List<CarAge> findAllByCarName(CarName carName);
     List<CarAge> findAllByCarNameOrderByCarAgeDesc(CarName carName);
     boolean existsByCarNameAndCarAge(CarName carName, int carAge);
+
+    // 차량에 속한 연식 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM CarAge a WHERE a.carName.id = :nameId")
+    int deleteByCarNameId(@Param("nameId") Long nameId);
+
+    // 차종에 속한 모든 차량의 연식 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM CarAge a WHERE a.carName.id IN (SELECT n.id FROM CarName n WHERE n.carType.id = :typeId)")
+    int deleteByCarTypeId(@Param("typeId") Long typeId);
 }
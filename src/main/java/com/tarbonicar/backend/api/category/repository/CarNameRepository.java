@@ -3,6 +3,9 @@ package com.tarbonicar.backend.api.category.repository;
 import com.tarbonicar.backend.api.category.entity.CarName;
 import com.tarbonicar.backend.api.category.entity.CarType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,4 +14,9 @@ public interface CarNameRepository extends JpaRepository<CarName, Long> {
     Optional<CarName> findByCarNameAndCarType(String carName, CarType carType);
     List<CarName> findAllByCarType(CarType carType);
     Optional<CarName> findByCarName(String carName);
+
+    // 차종에 속한 차량 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM CarName n WHERE n.carType.id = :typeId")
+    int deleteByCarTypeId(@Param("typeId") Long typeId);
 }
@@ -0,0 +1,316 @@
+package com.tarbonicar.backend.api.category.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tarbonicar.backend.api.category.cache.CategoryTreeCache;
+import com.tarbonicar.backend.api.category.dto.CategoryImportResponseDTO;
+import com.tarbonicar.backend.common.config.chunk.ChunkSize;
+import com.tarbonicar.backend.common.exception.BadRequestException;
+import com.tarbonicar.backend.common.response.ErrorStatus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 카테고리 일괄 등록 (CSV / NDJSON)
+// 기존 차종/차량/연식을 한 번만 읽어 메모리에서 비교하고, 파일은 한 줄씩 읽으며 chunk 단위로 모아 batch insert
+// chunk 마다 별도 트랜잭션으로 반영하므로 실패 시 이전 chunk 까지는 등록된 상태로 남음
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CategoryImportService {
+
+    private static final String INSERT_TYPE_SQL = "INSERT INTO category_type (car_type) VALUES (?)";
+    private static final String INSERT_NAME_SQL = "INSERT INTO category_name (car_name, category_type_id) VALUES (?, ?)";
+    private static final String INSERT_AGE_SQL = "INSERT INTO category_age (car_age, category_name_id) VALUES (?, ?)";
+
+    private static final List<String> CSV_HEADER = List.of("cartype", "carname", "carage");
+
+    private static final int MAX_CAR_TYPE_LENGTH = 10;
+    private static final int MAX_CAR_NAME_LENGTH = 30;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CategoryTreeCache categoryTreeCache;
+    private final ObjectMapper objectMapper;
+
+    @Value("${category.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @PostConstruct
+    void validateChunkSize() {
+        ChunkSize.requirePositive("category.import.chunk-size", chunkSize);
+    }
+
+    // 동시에 여러 파일을 가져오면 같은 카테고리가 중복 등록될 수 있으므로 한 번에 하나씩 처리
+    public synchronized CategoryImportResponseDTO importCategories(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new BadRequestException(ErrorStatus.INVALID_CATEGORY_IMPORT_FILE_EXCEPTION.getMessage());
+        }
+
+        boolean ndjson = isNdjson(file);
+        ImportState state = loadState();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            List<CategoryRow> chunk = new ArrayList<>(chunkSize);
+            boolean firstLine = true;
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                if (firstLine) {
+                    line = stripBom(line);
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+                // CSV 헤더 행은 건너뜀
+                if (firstLine && !ndjson && isCsvHeader(line)) {
+                    firstLine = false;
+                    continue;
+                }
+                firstLine = false;
+
+                CategoryRow row = ndjson ? parseJson(line) : parseCsv(line);
+                if (row == null) {
+                    state.invalid++;
+                    continue;
+                }
+
+                chunk.add(row);
+                if (chunk.size() >= chunkSize) {
+                    flush(chunk, state);
+                    chunk.clear();
+                }
+            }
+            flush(chunk, state);
+        } catch (IOException e) {
+            throw new BadRequestException(ErrorStatus.INVALID_CATEGORY_IMPORT_FILE_EXCEPTION.getMessage());
+        } finally {
+            // 일부 chunk 만 반영되고 실패한 경우에도 등록된 만큼은 트리에 반영
+            if (state.inserted + state.insertedTypes + state.insertedNames > 0) {
+                categoryTreeCache.refresh();
+            }
+        }
+
+        log.info("카테고리 일괄 등록 완료: inserted={}, skipped={}, invalid={}, types={}, names={}",
+                state.inserted, state.skipped, state.invalid, state.insertedTypes, state.insertedNames);
+
+        return new CategoryImportResponseDTO(
+                state.inserted, state.skipped, state.invalid, state.insertedTypes, state.insertedNames);
+    }
+
+    // chunk 단위 반영 (차종 -> 차량 -> 연식 순으로 없는 것만 batch insert)
+    private void flush(List<CategoryRow> chunk, ImportState state) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // 1. 차종
+            Set<String> newTypes = new LinkedHashSet<>();
+            for (CategoryRow row : chunk) {
+                if (!state.typeIds.containsKey(row.carType())) {
+                    newTypes.add(row.carType());
+                }
+            }
+            if (!newTypes.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_TYPE_SQL, newTypes.stream().map(t -> new Object[]{t}).toList());
+                namedParameterJdbcTemplate.query(
+                        "SELECT category_type_id, car_type FROM category_type WHERE car_type IN (:types) ORDER BY category_type_id",
+                        Map.of("types", newTypes),
+                        rs -> {
+                            state.typeIds.putIfAbsent(rs.getString(2), rs.getLong(1));
+                        });
+                state.insertedTypes += newTypes.size();
+            }
+
+            // 2. 차량
+            Set<NameKey> newNames = new LinkedHashSet<>();
+            for (CategoryRow row : chunk) {
+                NameKey key = new NameKey(state.typeIds.get(row.carType()), row.carName());
+                if (!state.nameIds.containsKey(key)) {
+                    newNames.add(key);
+                }
+            }
+            if (!newNames.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_NAME_SQL, newNames.stream().map(n -> new Object[]{n.carName(), n.typeId()}).toList());
+                Set<String> names = new HashSet<>();
+                newNames.forEach(n -> names.add(n.carName()));
+                namedParameterJdbcTemplate.query(
+                        "SELECT category_name_id, category_type_id, car_name FROM category_name WHERE car_name IN (:names) ORDER BY category_name_id",
+                        Map.of("names", names),
+                        rs -> {
+                            state.nameIds.putIfAbsent(new NameKey(rs.getLong(2), rs.getString(3)), rs.getLong(1));
+                        });
+                state.insertedNames += newNames.size();
+            }
+
+            // 3. 연식 (이미 있거나 파일 안에서 중복된 행은 건너뜀)
+            List<Object[]> newAges = new ArrayList<>();
+            for (CategoryRow row : chunk) {
+                Long nameId = state.nameIds.get(new NameKey(state.typeIds.get(row.carType()), row.carName()));
+                if (state.ages.add(new AgeKey(nameId, row.carAge()))) {
+                    newAges.add(new Object[]{row.carAge(), nameId});
+                } else {
+                    state.skipped++;
+                }
+            }
+            if (!newAges.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_AGE_SQL, newAges);
+                state.inserted += newAges.size();
+            }
+        });
+    }
+
+    // 기존 카테고리 전체를 메모리로 읽음
+    private ImportState loadState() {
+        ImportState state = new ImportState();
+
+        jdbcTemplate.query("SELECT category_type_id, car_type FROM category_type ORDER BY category_type_id",
+                rs -> {
+                    state.typeIds.putIfAbsent(rs.getString(2), rs.getLong(1));
+                });
+        jdbcTemplate.query("SELECT category_name_id, category_type_id, car_name FROM category_name ORDER BY category_name_id",
+                rs -> {
+                    state.nameIds.putIfAbsent(new NameKey(rs.getLong(2), rs.getString(3)), rs.getLong(1));
+                });
+        jdbcTemplate.query("SELECT category_name_id, car_age FROM category_age",
+                rs -> {
+                    state.ages.add(new AgeKey(rs.getLong(1), rs.getInt(2)));
+                });
+
+        return state;
+    }
+
+    private boolean isNdjson(MultipartFile file) {
+        String filename = (file.getOriginalFilename() == null) ? "" : file.getOriginalFilename().toLowerCase();
+        String contentType = (file.getContentType() == null) ? "" : file.getContentType().toLowerCase();
+        return filename.endsWith(".ndjson") || filename.endsWith(".jsonl") || filename.endsWith(".json")
+                || contentType.contains("json");
+    }
+
+    // 헤더 행은 컬럼명이 정확히 carType,carName,carAge 인 경우만 (대소문자, 따옴표, 공백 무시)
+    // "cartype..." 으로 시작하는 데이터 행을 헤더로 오인해 건너뛰지 않도록 컬럼 단위로 비교
+    private boolean isCsvHeader(String line) {
+        List<String> columns = splitCsv(line).stream()
+                .map(column -> column.trim().toLowerCase())
+                .toList();
+        return CSV_HEADER.equals(columns);
+    }
+
+    private String stripBom(String line) {
+        return (!line.isEmpty() && line.charAt(0) == '\uFEFF') ? line.substring(1) : line;
+    }
+
+    // {"carType":"SUV","carName":"투싼","carAge":2024}
+    private CategoryRow parseJson(String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            return toRow(text(node, "carType"), text(node, "carName"), text(node, "carAge"));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return (value == null || value.isNull()) ? null : value.asText();
+    }
+
+    // carType,carName,carAge (값에 쉼표가 있으면 큰따옴표로 감쌈)
+    private CategoryRow parseCsv(String line) {
+        List<String> fields = splitCsv(line);
+        if (fields.size() != 3) {
+            return null;
+        }
+        return toRow(fields.get(0), fields.get(1), fields.get(2));
+    }
+
+    private List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>(3);
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    // 값 검증 (컬럼 길이를 넘거나 연식이 숫자가 아니면 null)
+    private CategoryRow toRow(String carType, String carName, String carAge) {
+        if (carType == null || carName == null || carAge == null) {
+            return null;
+        }
+        String type = carType.trim();
+        String name = carName.trim();
+        if (type.isEmpty() || name.isEmpty()
+                || type.length() > MAX_CAR_TYPE_LENGTH || name.length() > MAX_CAR_NAME_LENGTH) {
+            return null;
+        }
+        try {
+            int age = Integer.parseInt(carAge.trim());
+            return (age > 0) ? new CategoryRow(type, name, age) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private record CategoryRow(String carType, String carName, int carAge) {
+    }
+
+    private record NameKey(Long typeId, String carName) {
+    }
+
+    private record AgeKey(Long nameId, int carAge) {
+    }
+
+    // 가져오기 도중의 카테고리 상태와 결과 개수
+    private static class ImportState {
+        private final Map<String, Long> typeIds = new HashMap<>();
+        private final Map<NameKey, Long> nameIds = new HashMap<>();
+        private final Set<AgeKey> ages = new HashSet<>();
+
+        private long inserted;
+        private long skipped;
+        private long invalid;
+        private long insertedTypes;
+        private long insertedNames;
+    }
+}
@@ -1,5 +1,8 @@
 package com.tarbonicar.backend.api.category.service;
 
+import com.tarbonicar.backend.api.article.repository.ArticleRepository;
+import com.tarbonicar.backend.api.category.cache.CategoryTree;
+import com.tarbonicar.backend.api.category.cache.CategoryTreeCache;
 import com.tarbonicar.backend.api.category.dto.CarAgeResponseDTO;
 import com.tarbonicar.backend.api.category.dto.CarNameResponseDTO;
 import com.tarbonicar.backend.api.category.dto.CarTypeResponseDTO;
@@ -30,6 +33,8 @@ public class CategoryService {
     private final CarTypeRepository carTypeRepository;
     private final CarNameRepository carNameRepository;
     private final CarAgeRepository carAgeRepository;
+    private final CategoryTreeCache categoryTreeCache;
+    private final ArticleRepository articleRepository;
 
     // 카테고리 등록 메서드
     @Transactional
@@ -72,141 +77,156 @@ public class CategoryService {
                 .build();
 
         carAgeRepository.save(age);
+
+        // 카테고리 트리 갱신 (커밋 후)
+        categoryTreeCache.refresh();
+    }
+
+    // 카테고리 버전 조회 메서드 (카테고리가 바뀔 때마다 증가)
+    public long getCategoryVersion() {
+        return categoryTreeCache.get().getVersion();
     }
 
     // 차종 조회 메서드
-    @Transactional(readOnly = true)
     public List<CarTypeResponseDTO> getCarTypeCategory() {
 
-        return carTypeRepository.findAll().stream()
+        return categoryTreeCache.get().getTypes().stream()
                 .map(type -> new CarTypeResponseDTO(
-                        type.getId(),
-                        type.getCarType()
+                        type.id(),
+                        type.carType()
                 ))
                 .collect(Collectors.toList());
     }
 
     // 차량 조회 메서드
-    @Transactional(readOnly = true)
     public List<CarNameResponseDTO> getCarNameCategory(String carType) {
 
-        CarType type = carTypeRepository.findByCarType(carType)
+        CategoryTree.TypeNode type = categoryTreeCache.get().findType(carType)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_CARTYPE_EXCEPTION.getMessage()));
 
-        return carNameRepository.findAllByCarType(type).stream()
+        return type.names().stream()
                 .map(name -> new CarNameResponseDTO(
-                        name.getId(),
-                        name.getCarName()
+                        name.id(),
+                        name.carName()
                 ))
                 .collect(Collectors.toList());
     }
 
     // [게시글 작성 페이지 전용] 차량 연식 조회 메서드
-    @Transactional(readOnly = true)
     public List<CarAgeResponseDTO> getCarAgeCategory(String carName) {
 
-        CarName name = carNameRepository.findByCarName(carName)
+        CategoryTree.NameNode name = categoryTreeCache.get().findName(carName)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_CARNAME_EXCEPTION.getMessage()));
 
-        return carAgeRepository.findAllByCarNameOrderByCarAgeDesc(name).stream()
+        // 연식 최신순으로 정렬되어 있음
+        return name.ages().stream()
                 .map(age -> new CarAgeResponseDTO(
-                        age.getId(),
-                        age.getCarAge()
+                        age.id(),
+                        age.carAge()
                 ))
                 .collect(Collectors.toList());
     }
 
     // [메인, 게시글 리스트 페이지 전용] 차량 연식 조회 메서드
-    @Transactional(readOnly = true)
     public List<CarAgeResponseDTO> getHomeCarAgeCategory(String carTypeParam, List<String> carNameParams) {
-        List<CarAge> rawAges;
+
+        // 요청 처리 중에는 하나의 카테고리 스냅샷만 사용
+        CategoryTree tree = categoryTreeCache.get();
+        List<CategoryTree.AgeNode> rawAges;
 
         if ("all".equalsIgnoreCase(carTypeParam)) {
             // 전체 연식
-            rawAges = carAgeRepository.findAll();
+            rawAges = tree.getAllAges();
         } else {
             // 차종이 지정된 경우 해당 CarType 조회
-            CarType type = carTypeRepository.findByCarType(carTypeParam)
+            CategoryTree.TypeNode type = tree.findType(carTypeParam)
                     .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_CARTYPE_EXCEPTION.getMessage()));
 
             if (carNameParams.isEmpty() ||
                     carNameParams.stream().anyMatch(n -> "all".equalsIgnoreCase(n))) {
-                List<CarName> names = carNameRepository.findAllByCarType(type);
-                rawAges = names.stream()
-                        .flatMap(name -> carAgeRepository.findAllByCarName(name).stream())
+                rawAges = type.names().stream()
+                        .flatMap(name -> name.ages().stream())
                         .collect(Collectors.toList());
             } else {
                 // 특정 차량명이 여러 개 지정된 경우
                 rawAges = carNameParams.stream()
-                        .map(nameStr -> carNameRepository
-                                .findByCarNameAndCarType(nameStr, type)
+                        .map(nameStr -> type.findName(nameStr)
                                 .orElseThrow(() -> new NotFoundException(
                                         ErrorStatus.NOT_FOUND_CARNAME_EXCEPTION.getMessage()))
                         )
-                        .flatMap(carName -> carAgeRepository.findAllByCarName(carName).stream())
+                        .flatMap(name -> name.ages().stream())
                         .collect(Collectors.toList());
             }
         }
 
         // 중복 연식 제거 + 정렬 + 대표 ID 선택
-        // Map<연식값, CarAge> 으로 묶어서 TreeMap 으로 정렬 -> 연식 최신순으로 반환
-        Map<Integer, CarAge> ageMap = new TreeMap<>(Comparator.reverseOrder());
-        for (CarAge age : rawAges) {
-            int val = age.getCarAge();
+        // Map<연식값, AgeNode> 으로 묶어서 TreeMap 으로 정렬 -> 연식 최신순으로 반환
+        Map<Integer, CategoryTree.AgeNode> ageMap = new TreeMap<>(Comparator.reverseOrder());
+        for (CategoryTree.AgeNode age : rawAges) {
+            int val = age.carAge();
             // 최초로 등장하거나, ID가 더 작은 경우 대표로 저장
-            if (!ageMap.containsKey(val) || age.getId() < ageMap.get(val).getId()) {
+            if (!ageMap.containsKey(val) || age.id() < ageMap.get(val).id()) {
                 ageMap.put(val, age);
             }
         }
 
         return ageMap.values().stream()
-                .map(a -> new CarAgeResponseDTO(a.getId(), a.getCarAge()))
+                .map(a -> new CarAgeResponseDTO(a.id(), a.carAge()))
                 .collect(Collectors.toList());
     }
 
     // 차량 연식 카테고리 삭제 메서드
     @Transactional
     public void deleteCarAge(Long ageId) {
-        CarAge age = carAgeRepository.findById(ageId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_CARAGE_EXCEPTION.getMessage()));
-        carAgeRepository.delete(age);
+        if (!carAgeRepository.existsById(ageId)) {
+            throw new NotFoundException(ErrorStatus.NOT_FOUND_CARAGE_EXCEPTION.getMessage());
+        }
+        // 게시글이 등록된 연식은 삭제하지 않음
+        if (articleRepository.existsByCarAgeId(ageId)) {
+            throw new BadRequestException(ErrorStatus.CATEGORY_IN_USE_EXCEPTION.getMessage());
+        }
+        carAgeRepository.deleteById(ageId);
+
+        // 카테고리 트리 갱신 (커밋 후)
+        categoryTreeCache.refresh();
     }
 
     // 차량 카테고리 삭제 메서드
+    // 연식 -> 차량 순으로 DELETE 문 하나씩만 실행 (연식 개수와 관계없이 일정한 쿼리 수)
     @Transactional
     public void deleteCarName(Long nameId) {
-        CarName name = carNameRepository.findById(nameId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_CARNAME_EXCEPTION.getMessage()));
-
-        // 연식 먼저 삭제
-        List<CarAge> ages = carAgeRepository.findAllByCarName(name);
-        if (!ages.isEmpty()) {
-            carAgeRepository.deleteAll(ages);
+        if (!carNameRepository.existsById(nameId)) {
+            throw new NotFoundException(ErrorStatus.NOT_FOUND_CARNAME_EXCEPTION.getMessage());
         }
-        // 그 다음 이름 삭제
-        carNameRepository.delete(name);
+        // 하위 연식 중 하나라도 게시글이 등록되어 있으면 삭제하지 않음
+        if (articleRepository.existsByCarAgeCarNameId(nameId)) {
+            throw new BadRequestException(ErrorStatus.CATEGORY_IN_USE_EXCEPTION.getMessage());
+        }
+
+        carAgeRepository.deleteByCarNameId(nameId);
+        carNameRepository.deleteById(nameId);
+
+        // 카테고리 트리 갱신 (커밋 후)
+        categoryTreeCache.refresh();
     }
 
     // 차량 종류 카테고리 삭제 메서드
+    // 연식 -> 차량 -> 차종 순으로 DELETE 문 하나씩만 실행
     @Transactional
     public void deleteCarType(Long typeId) {
-        CarType type = carTypeRepository.findById(typeId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_CARTYPE_EXCEPTION.getMessage()));
-
-        // 해당 타입의 모든 차명 조회
-        List<CarName> names = carNameRepository.findAllByCarType(type);
-        // 각 이름에 속한 연식부터 삭제
-        for (CarName name : names) {
-            List<CarAge> ages = carAgeRepository.findAllByCarName(name);
-            if (!ages.isEmpty()) {
-                carAgeRepository.deleteAll(ages);
-            }
+        if (!carTypeRepository.existsById(typeId)) {
+            throw new NotFoundException(ErrorStatus.NOT_FOUND_CARTYPE_EXCEPTION.getMessage());
         }
-        // 차량 카테고리 삭제
-        if (!names.isEmpty()) {
-            carNameRepository.deleteAll(names);
+        // 하위 연식 중 하나라도 게시글이 등록되어 있으면 삭제하지 않음
+        if (articleRepository.existsByCarAgeCarNameCarTypeId(typeId)) {
+            throw new BadRequestException(ErrorStatus.CATEGORY_IN_USE_EXCEPTION.getMessage());
         }
-        // 마지막으로 차종 타입 삭제
-        carTypeRepository.delete(type);
+
+        carAgeRepository.deleteByCarTypeId(typeId);
+        carNameRepository.deleteByCarTypeId(typeId);
+        carTypeRepository.deleteById(typeId);
+
+        // 카테고리 트리 갱신 (커밋 후)
+        categoryTreeCache.refresh();
     }
 }
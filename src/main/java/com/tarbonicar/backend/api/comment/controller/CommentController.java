@@ -4,25 +4,23 @@ import com.tarbonicar.backend.api.comment.dto.CommentCreateDTO;
 import com.tarbonicar.backend.api.comment.dto.CommentResponseDTO;
 import com.tarbonicar.backend.api.comment.dto.CommentUpdateDTO;
 import com.tarbonicar.backend.api.comment.service.CommentService;
+import com.tarbonicar.backend.api.jwt.MemberPrincipal;
 import com.tarbonicar.backend.common.response.ApiResponse;
+import com.tarbonicar.backend.common.response.CursorResponse;
 import com.tarbonicar.backend.common.response.SuccessStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
-import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.web.PageableDefault;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @Tag(name = "Comment", description = "Comment 관련 API 입니다.")
 @RequestMapping("api/v1/comment")
@@ -39,30 +37,58 @@ public class CommentController {
     @PostMapping
     public ResponseEntity<ApiResponse<Void>> createComment(
             @RequestBody CommentCreateDTO commentCreateDTO,
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal MemberPrincipal principal
     ) {
 
-        commentService.createComment(commentCreateDTO, userDetails.getUsername());
+        commentService.createComment(commentCreateDTO, principal.getMemberId());
         return ApiResponse.success_only(SuccessStatus.CREATE_COMMENT_SUCCESS);
     }
 
     @Operation(
-            summary = "댓글 목록 조회 API", description = "게시글에 등록된 댓글 목록을 조회합니다.")
+            summary = "댓글 목록 조회 API",
+            description = "게시글에 등록된 댓글 목록을 조회합니다. <br>" + "slice = true 이면 전체 개수 없이 content, page, size, hasNext 만 반환합니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "댓글 목록 조회 성공")
     })
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<CommentResponseDTO>>> getComment(
+    public ResponseEntity<?> getComment(
             @RequestParam Long articleId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @AuthenticationPrincipal UserDetails userDetails
+            @RequestParam(defaultValue = "false") boolean slice,
+            @AuthenticationPrincipal MemberPrincipal principal
+    ) {
+
+        Long memberId = (principal != null) ? principal.getMemberId() : null;
+
+        // 정렬은 최신순(작성일, 댓글 ID 내림차순) 고정
+        PageRequest pageRequest = PageRequest.of(page, size);
+        if (slice) {
+            Slice<CommentResponseDTO> commentSlice = commentService.getCommentSlice(articleId, memberId, pageRequest);
+            return ApiResponse.success_slice(SuccessStatus.SEND_COMMENT_SUCCESS, commentSlice);
+        }
+
+        Page<CommentResponseDTO> commentResponseDTO = commentService.getComment(articleId, memberId, pageRequest);
+        return ApiResponse.success(SuccessStatus.SEND_COMMENT_SUCCESS, commentResponseDTO);
+    }
+
+    @Operation(
+            summary = "댓글 목록 커서 기반 조회 API",
+            description = "게시글에 등록된 댓글 목록을 커서 기반으로 조회합니다. <br>" + "첫 페이지는 cursor 없이 요청하고, 이후에는 응답의 nextCursor / prevCursor 값을 그대로 전달합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "댓글 목록 조회 성공")
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<CommentResponseDTO>>> getCommentByCursor(
+            @RequestParam Long articleId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(CursorResponse.MAX_SIZE) int size,
+            @AuthenticationPrincipal MemberPrincipal principal
     ) {
 
-        String userEmail = (userDetails != null) ? userDetails.getUsername() : null;
+        Long memberId = (principal != null) ? principal.getMemberId() : null;
 
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
-        Page<CommentResponseDTO> commentResponseDTO = commentService.getComment(articleId, userEmail, pageRequest);
+        CursorResponse<CommentResponseDTO> commentResponseDTO = commentService.getCommentByCursor(articleId, memberId, cursor, size);
         return ApiResponse.success(SuccessStatus.SEND_COMMENT_SUCCESS, commentResponseDTO);
     }
 
@@ -74,10 +100,10 @@ public class CommentController {
     @PutMapping
     public ResponseEntity<ApiResponse<Void>> modifyComment(
             @RequestBody CommentUpdateDTO commentUpdateDTO,
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal MemberPrincipal principal
     ) {
 
-        commentService.modifyComment(commentUpdateDTO, userDetails.getUsername());
+        commentService.modifyComment(commentUpdateDTO, principal.getMemberId());
         return ApiResponse.success_only(SuccessStatus.MODIFY_COMMENT_SUCCESS);
     }
 
@@ -89,10 +115,10 @@ public class CommentController {
     @DeleteMapping("/{commentId}")
     public ResponseEntity<ApiResponse<Void>> deleteComment(
             @PathVariable Long commentId,
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal MemberPrincipal principal
     ) {
 
-        commentService.deleteComment(commentId, userDetails.getUsername());
+        commentService.deleteComment(commentId, principal.getMemberId());
         return ApiResponse.success_only(SuccessStatus.DELETE_COMMENT_SUCCESS);
     }
 }
@@ -0,0 +1,56 @@
+package com.tarbonicar.backend.api.comment.dto;
+
+import com.tarbonicar.backend.common.exception.BadRequestException;
+import com.tarbonicar.backend.common.response.ErrorStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 댓글 목록 커서(Keyset) 페이징용 커서
+// 작성일 + 댓글 ID 를 Base64 로 인코딩하여 클라이언트에는 불투명한 문자열로 전달
+@Getter
+@AllArgsConstructor
+public class CommentCursor {
+
+    private static final String DELIMITER = "|";
+    private static final String NEXT = "N";
+    private static final String PREV = "P";
+
+    private final boolean backward; // 이전 페이지 방향이면 true
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static CommentCursor next(CommentResponseDTO comment) {
+        return new CommentCursor(false, comment.getCreateAt(), comment.getId());
+    }
+
+    public static CommentCursor prev(CommentResponseDTO comment) {
+        return new CommentCursor(true, comment.getCreateAt(), comment.getId());
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER, backward ? PREV : NEXT, createdAt.toString(), String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CommentCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 3 || !(NEXT.equals(parts[0]) || PREV.equals(parts[0]))) {
+                throw new BadRequestException(ErrorStatus.INVALID_CURSOR_EXCEPTION.getMessage());
+            }
+            return new CommentCursor(PREV.equals(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException(ErrorStatus.INVALID_CURSOR_EXCEPTION.getMessage());
+        }
+    }
+}
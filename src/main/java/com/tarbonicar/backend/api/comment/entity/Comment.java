@@ -12,7 +12,10 @@ import lombok.NoArgsConstructor;
 @Entity
 @Builder
 @Getter
-@Table(name = "comment")
+@Table(name = "comment", indexes = {
+        // 게시글별 최신순 댓글 목록 / 커서 조회용
+        @Index(name = "idx_comment_article_created", columnList = "article_id, created_at, comment_id")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 public class Comment extends BaseTimeEntity {
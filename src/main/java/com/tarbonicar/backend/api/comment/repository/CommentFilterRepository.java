@@ -0,0 +1,18 @@
+package com.tarbonicar.backend.api.comment.repository;
+
+import com.tarbonicar.backend.api.comment.dto.CommentCursor;
+import com.tarbonicar.backend.api.comment.dto.CommentResponseDTO;
+import com.tarbonicar.backend.common.response.CursorResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface CommentFilterRepository {
+
+    // 게시글 댓글 목록 조회 (작성자 정보까지 한 번에 조회, memberId 가 null 이면 myComment 는 false)
+    Page<CommentResponseDTO> findByArticleId(Long articleId, Long memberId, Pageable pageable);
+
+    Slice<CommentResponseDTO> findSliceByArticleId(Long articleId, Long memberId, Pageable pageable);
+
+    CursorResponse<CommentResponseDTO> findByArticleIdWithCursor(Long articleId, Long memberId, CommentCursor cursor, int size);
+}
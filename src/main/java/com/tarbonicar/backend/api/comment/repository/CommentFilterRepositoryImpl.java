@@ -0,0 +1,142 @@
+package com.tarbonicar.backend.api.comment.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.tarbonicar.backend.api.comment.dto.CommentCursor;
+import com.tarbonicar.backend.api.comment.dto.CommentResponseDTO;
+import com.tarbonicar.backend.api.comment.entity.QComment;
+import com.tarbonicar.backend.api.member.entity.QMember;
+import com.tarbonicar.backend.common.response.CursorResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class CommentFilterRepositoryImpl implements CommentFilterRepository {
+    private final JPAQueryFactory queryFactory;
+
+    private static final QComment comment = QComment.comment;
+    private static final QMember member = QMember.member;
+
+    @Override
+    public Page<CommentResponseDTO> findByArticleId(Long articleId, Long memberId, Pageable pageable) {
+        List<CommentResponseDTO> results = selectComments(memberId)
+                .where(comment.article.id.eq(articleId))
+                .orderBy(comment.createdAt.desc(), comment.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch()
+                .stream()
+                .map(row -> toResponse(row, memberId))
+                .toList();
+
+        // 마지막 페이지처럼 전체 개수를 알 수 있는 경우에는 count 쿼리 생략 (count 는 comment 테이블만 조회)
+        return PageableExecutionUtils.getPage(results, pageable, () -> {
+            Long total = queryFactory
+                    .select(comment.count())
+                    .from(comment)
+                    .where(comment.article.id.eq(articleId))
+                    .fetchOne();
+            return (total == null) ? 0L : total;
+        });
+    }
+
+    @Override
+    public Slice<CommentResponseDTO> findSliceByArticleId(Long articleId, Long memberId, Pageable pageable) {
+        // size + 1 건 조회하여 다음 페이지 존재 여부 확인
+        List<CommentResponseDTO> results = selectComments(memberId)
+                .where(comment.article.id.eq(articleId))
+                .orderBy(comment.createdAt.desc(), comment.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch()
+                .stream()
+                .map(row -> toResponse(row, memberId))
+                .toList();
+
+        boolean hasNext = results.size() > pageable.getPageSize();
+        List<CommentResponseDTO> content = hasNext ? results.subList(0, pageable.getPageSize()) : results;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public CursorResponse<CommentResponseDTO> findByArticleIdWithCursor(Long articleId, Long memberId, CommentCursor cursor, int size) {
+        boolean backward = cursor != null && cursor.isBackward();
+
+        // offset 없이 (created_at, comment_id) 커서 위치부터 size + 1 건 조회
+        List<CommentResponseDTO> rows = selectComments(memberId)
+                .where(comment.article.id.eq(articleId), cursorCondition(cursor))
+                .orderBy(cursorOrder(backward))
+                .limit(size + 1L)
+                .fetch()
+                .stream()
+                .map(row -> toResponse(row, memberId))
+                .toList();
+
+        return CursorResponse.of(
+                rows,
+                size,
+                cursor != null,
+                backward,
+                row -> CommentCursor.next(row).encode(),
+                row -> CommentCursor.prev(row).encode()
+        );
+    }
+
+    // 댓글 + 작성자 정보 조회 (작성자를 댓글마다 따로 조회하지 않도록 조인)
+    private JPAQuery<Tuple> selectComments(Long memberId) {
+        return queryFactory
+                .select(
+                        comment.id,
+                        comment.content,
+                        comment.createdAt,
+                        comment.modify,
+                        member.id,
+                        member.nickname,
+                        member.profileImage
+                )
+                .from(comment)
+                .join(comment.member, member);
+    }
+
+    private CommentResponseDTO toResponse(Tuple row, Long memberId) {
+        Long writerId = row.get(member.id);
+        return new CommentResponseDTO(
+                row.get(comment.id),
+                row.get(comment.content),
+                row.get(comment.createdAt),
+                writerId != null && writerId.equals(memberId), // myComment 판별 (memberId 가 null 이면 false)
+                Boolean.TRUE.equals(row.get(comment.modify)),
+                writerId,
+                row.get(member.nickname),
+                row.get(member.profileImage)
+        );
+    }
+
+    // 최신순 (created_at DESC, comment_id DESC) 기준 커서 조건, 이전 페이지는 반대 방향
+    private BooleanExpression cursorCondition(CommentCursor cursor) {
+        if (cursor == null) return null;
+
+        return cursor.isBackward()
+                ? comment.createdAt.gt(cursor.getCreatedAt())
+                        .or(comment.createdAt.eq(cursor.getCreatedAt()).and(comment.id.gt(cursor.getId())))
+                : comment.createdAt.lt(cursor.getCreatedAt())
+                        .or(comment.createdAt.eq(cursor.getCreatedAt()).and(comment.id.lt(cursor.getId())));
+    }
+
+    private OrderSpecifier<?>[] cursorOrder(boolean backward) {
+        return backward
+                ? new OrderSpecifier<?>[]{comment.createdAt.asc(), comment.id.asc()}
+                : new OrderSpecifier<?>[]{comment.createdAt.desc(), comment.id.desc()};
+    }
+}
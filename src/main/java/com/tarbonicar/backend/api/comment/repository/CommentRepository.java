@@ -1,21 +1,17 @@
 package com.tarbonicar.backend.api.comment.repository;
 
 import com.tarbonicar.backend.api.comment.entity.Comment;
-import com.tarbonicar.backend.api.member.entity.Member;
 import jakarta.transaction.Transactional;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
-public interface CommentRepository extends JpaRepository<Comment, Long> {
-
-    // 해당 게시글의 댓글 조회
-    Page<Comment> findAllByArticle_IdOrderByCreatedAtDesc(Long articleId, Pageable pageable);
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentFilterRepository {
 
     // 댓글 개수 조회
     long countByArticle_Id(Long articleId);
@@ -30,7 +26,16 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 //    @Query("DELETE FROM Comment c WHERE c.member.email = :email")
 //    void deleteAllByMemberEmail(@Param("email") String email);
 
-    // 회원탈퇴 댓글 삭제
-    int deleteByMember(Member member);
+    // 회원탈퇴 : 회원이 작성한 댓글 chunk 조회 [댓글 ID, 게시글 ID]
+    @Query("SELECT c.id, c.article.id FROM Comment c WHERE c.member.id = :memberId ORDER BY c.id")
+    List<Object[]> findIdAndArticleIdByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 회원탈퇴 : 삭제할 게시글에 달린 댓글 ID chunk 조회 (idx_comment_article_created 사용)
+    @Query("SELECT c.id FROM Comment c WHERE c.article.id IN :articleIds")
+    List<Long> findIdsByArticleIdIn(@Param("articleIds") Collection<Long> articleIds, Pageable pageable);
 
 }
@@ -2,7 +2,9 @@ package com.tarbonicar.backend.api.comment.service;
 
 import com.tarbonicar.backend.api.article.entity.Article;
 import com.tarbonicar.backend.api.article.repository.ArticleRepository;
+import com.tarbonicar.backend.api.article.service.ArticleHotScoreCalculator;
 import com.tarbonicar.backend.api.comment.dto.CommentCreateDTO;
+import com.tarbonicar.backend.api.comment.dto.CommentCursor;
 import com.tarbonicar.backend.api.comment.dto.CommentResponseDTO;
 import com.tarbonicar.backend.api.comment.dto.CommentUpdateDTO;
 import com.tarbonicar.backend.api.comment.entity.Comment;
@@ -11,11 +13,13 @@ import com.tarbonicar.backend.api.member.entity.Member;
 import com.tarbonicar.backend.api.member.repository.MemberRepository;
 import com.tarbonicar.backend.common.exception.BadRequestException;
 import com.tarbonicar.backend.common.exception.NotFoundException;
+import com.tarbonicar.backend.common.response.CursorResponse;
 import com.tarbonicar.backend.common.response.ErrorStatus;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -28,14 +32,14 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final ArticleRepository articleRepository;
     private final MemberRepository memberRepository;
+    private final ArticleHotScoreCalculator hotScoreCalculator;
 
     // 댓글 작성 메서드
     @Transactional
-    public void createComment(CommentCreateDTO commentCreateDTO, String memberId) {
+    public void createComment(CommentCreateDTO commentCreateDTO, Long memberId) {
 
-        // 사용자가 존재하지 않을 때 예외처리
-        Member member = memberRepository.findByEmail(memberId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_MEMBERID_EXCEPTION.getMessage()));
+        // 토큰의 회원 ID 로 참조만 생성 (회원 조회 없음)
+        Member member = memberRepository.getReferenceById(memberId);
 
         // 게시글이 존재하지 않을 때 예외처라
         Article article = articleRepository.findById(commentCreateDTO.getArticleId())
@@ -49,42 +53,67 @@ public class CommentService {
                 .build();
 
         commentRepository.save(comment);
+
+        // 게시글 댓글 수 1 증가
+        articleRepository.incrementCommentCount(article.getId());
+        articleRepository.addHotScore(article.getId(), hotScoreCalculator.boostNow(), hotScoreCalculator.getCommentWeight());
     }
 
     // 댓글 목록 조회 메서드
     @Transactional
-    public Page<CommentResponseDTO> getComment(Long articleId, String memberId, Pageable pageable) {
+    public Page<CommentResponseDTO> getComment(Long articleId, Long memberId, Pageable pageable) {
 
-        // 댓글 리스트 조회
-        Page<Comment> commentList = commentRepository.findAllByArticle_IdOrderByCreatedAtDesc(articleId, pageable);
+        // 댓글 리스트 조회 (작성자 정보 포함)
+        Page<CommentResponseDTO> commentList = commentRepository.findByArticleId(articleId, memberId, pageable);
 
-        // 게시글 확인
+        // 댓글이 없을 때만 게시글 확인
+        if (commentList.isEmpty()) {
+            checkArticleExists(articleId);
+        }
+        return commentList;
+    }
+
+    // 댓글 목록 조회 메서드 (전체 개수 없이 다음 페이지 여부만 조회)
+    @Transactional
+    public Slice<CommentResponseDTO> getCommentSlice(Long articleId, Long memberId, Pageable pageable) {
+
+        Slice<CommentResponseDTO> commentList = commentRepository.findSliceByArticleId(articleId, memberId, pageable);
+
+        if (commentList.isEmpty()) {
+            checkArticleExists(articleId);
+        }
+        return commentList;
+    }
+
+    // 댓글 목록 커서 기반 조회 메서드 (offset 없이 작성일 + 댓글 ID 기준으로 이어서 조회)
+    @Transactional
+    public CursorResponse<CommentResponseDTO> getCommentByCursor(Long articleId, Long memberId, String cursor, int size) {
+
+        CommentCursor commentCursor = CommentCursor.decode(cursor);
+        CursorResponse<CommentResponseDTO> commentList = commentRepository.findByArticleIdWithCursor(articleId, memberId, commentCursor, size);
+
+        if (commentList.getContent().isEmpty()) {
+            checkArticleExists(articleId);
+        }
+        return commentList;
+    }
+
+    private void checkArticleExists(Long articleId) {
         if (!articleRepository.existsById(articleId)) {
             throw new BadRequestException(ErrorStatus.NOT_FOUND_ARTICLE_EXCEPTION.getMessage());
         }
-
-        return commentList.map(comment -> new CommentResponseDTO(
-                comment.getId(),
-                comment.getContent(),
-                comment.getCreatedAt(),
-                comment.getMember().getEmail().equals(memberId), // myComment 판별
-                comment.isModify(),
-                comment.getMember().getId(),
-                comment.getMember().getNickname(),
-                comment.getMember().getProfileImage()
-        ));
     }
 
     // 댓글 수정 메서드
     @Transactional
-    public void modifyComment(CommentUpdateDTO commentUpdateDTO, String memberId) {
+    public void modifyComment(CommentUpdateDTO commentUpdateDTO, Long memberId) {
 
         // 기존 댓글 조회
         Comment comment = commentRepository.findById(commentUpdateDTO.getCommentId())
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_COMMENT_EXCEPTION.getMessage()));
 
         // 작성자 확인 (권한 체크)
-        if (!comment.getMember().getEmail().equals(memberId)) {
+        if (!comment.getMember().getId().equals(memberId)) {
             throw new BadRequestException(ErrorStatus.THIS_MEMBER_IS_NOT_COMMENT_WRITER_EXCEPTION.getMessage());
         }
 
@@ -98,17 +127,24 @@ public class CommentService {
 
     // 댓글 삭제 메서드
     @Transactional
-    public void deleteComment(Long commentId, String memberId) {
+    public void deleteComment(Long commentId, Long memberId) {
 
         // 댓글 조회
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_COMMENT_EXCEPTION.getMessage()));
 
         // 작성자 확인
-        if (!comment.getMember().getEmail().equals(memberId)) {
+        if (!comment.getMember().getId().equals(memberId)) {
             throw new BadRequestException(ErrorStatus.THIS_MEMBER_IS_NOT_COMMENT_WRITER_EXCEPTION.getMessage());
         }
 
         commentRepository.delete(comment);
+
+        // 게시글 댓글 수 1 감소, HOT 점수에서 댓글 가중치 제거
+        Long articleId = comment.getArticle().getId();
+        articleRepository.decreaseCommentCount(articleId, 1);
+        articleRepository.findCreatedAtById(articleId).ifPresent(createdAt ->
+                articleRepository.removeHotScore(articleId, hotScoreCalculator.boostNow(),
+                        hotScoreCalculator.getCommentWeight(), hotScoreCalculator.floor(createdAt)));
     }
 }
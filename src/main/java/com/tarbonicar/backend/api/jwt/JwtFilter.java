@@ -24,8 +24,6 @@ public class JwtFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException, java.io.IOException {
-        String jwt = resolveToken(request); // 헤더에서 JWT 추출
-        System.out.println("JWT: 🙂" + jwt);
         String requestURI = request.getRequestURI();
 
         // 로그인, 회원가입 요청은 JWT 검사 안 함
@@ -33,10 +31,18 @@ public class JwtFilter extends OncePerRequestFilter {
             filterChain.doFilter(request, response);
             return;
         }
-        if (StringUtils.hasText(jwt) && jwtProvider.validateToken(jwt)) {
-            Authentication authentication = jwtProvider.getAuthentication(jwt);
-            SecurityContextHolder.getContext().setAuthentication(authentication); // 인증 객체 설정
 
+        // 토큰이 없으면 검증할 것이 없으므로 바로 통과 (인증이 필요한 경로는 이후 인가 단계에서 401)
+        String jwt = resolveToken(request); // 헤더에서 JWT 추출
+        if (jwt == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 서명 검증과 Claims 추출을 한 번에 처리 (이미 검증된 토큰은 캐시 사용)
+        Authentication authentication = jwtProvider.authenticate(jwt);
+        if (authentication != null) {
+            SecurityContextHolder.getContext().setAuthentication(authentication); // 인증 객체 설정
         }
 
         filterChain.doFilter(request, response); // 다음 필터로 요청 전달
@@ -1,24 +1,35 @@
 package com.tarbonicar.backend.api.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.tarbonicar.backend.api.constant.Authority;
+import com.tarbonicar.backend.api.member.cache.WithdrawnMemberCache;
 import com.tarbonicar.backend.api.member.dto.MemberLoginResponseDto;
 import com.tarbonicar.backend.api.member.entity.Member;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -27,30 +38,69 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 @Slf4j
 public class JwtProvider {
     private static final String AUTHORITIES_KEY = "auth"; // 권한 정보를 저장하는 키
+    private static final String MEMBER_ID_KEY = "memberId"; // 회원 ID
+    private static final String NICKNAME_KEY = "nickname"; // 닉네임
+    private static final String PROFILE_VERSION_KEY = "profileVersion"; // 프로필 버전
+    public static final long ACCESS_TOKEN_EXPIRE_MILLIS = 30 * 60 * 1000L; // Access Token 유효 시간 (30분)
     private final Key key; // JWT 서명에 사용할 비밀키
+    private final JwtParser jwtParser; // 서명 검증용 파서 (thread-safe, 요청마다 새로 만들지 않고 재사용)
+
+    // 검증이 끝난 Access Token 캐시 (키 : 토큰 SHA-256 해시, 토큰 만료 시각까지 보관)
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final WithdrawnMemberCache withdrawnMemberCache;
+
     // 비밀키를 기반으로 키 객체 초기화
     // 주의점 : @Value 어노테이션은 springframework의 어노테이션이다.
-    public JwtProvider(@Value("${jwt.secret}") String secretKey) {
+    public JwtProvider(
+            @Value("${jwt.secret}") String secretKey,
+            @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize,
+            MeterRegistry meterRegistry,
+            WithdrawnMemberCache withdrawnMemberCache
+    ) {
+        this.withdrawnMemberCache = withdrawnMemberCache;
         // 암호화
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        return value.remainingNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return value.remainingNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwtVerified");
     }
 
     // 토큰 생성 메서드
-    public String generateAccessToken(Authentication authentication) {
-        // 인증 객체에서 권한 정보 추출
-        String authorities = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.joining(","));
-
+    // 회원 ID, 닉네임, 프로필 버전을 함께 담아 요청마다 회원을 조회하지 않도록 함
+    public String generateAccessToken(Member member) {
         // 현재 시간과 토큰 만료 시간 계산
         long now = (new Date()).getTime();
-        Date accessTokenExpiresIn = new Date(now + 30 * 60 * 1000); // 30분
+        Date accessTokenExpiresIn = new Date(now + ACCESS_TOKEN_EXPIRE_MILLIS); // 30분
 
         // Access Token 생성
         String accessToken =
                 Jwts.builder()
-                        .setSubject(authentication.getName()) // 사용자명 설정, 이메일이 들어 있음
-                        .claim(AUTHORITIES_KEY, "ROLE_USER")  // 권한 정보 저장, 일단 ROLE_USER
+                        .setSubject(member.getEmail()) // 사용자명 설정, 이메일이 들어 있음
+                        .claim(AUTHORITIES_KEY, authorityOf(member))  // 권한 정보 저장 (관리자 API 인가에 사용)
+                        .claim(MEMBER_ID_KEY, member.getId())
+                        .claim(NICKNAME_KEY, member.getNickname())
+                        .claim(PROFILE_VERSION_KEY, member.getProfileVersion())
                         .setExpiration(accessTokenExpiresIn)  // 만료 시간 설정
                         .signWith(key, SignatureAlgorithm.HS512) // 서명 방식 설정
                         .compact();
@@ -59,6 +109,11 @@ public class JwtProvider {
         return accessToken;
     }
 
+    // 권한이 지정되지 않은 회원(기존 가입 회원, 소셜 가입 회원)은 ROLE_USER
+    private String authorityOf(Member member) {
+        return (member.getAuthority() != null) ? member.getAuthority().name() : Authority.ROLE_USER.name();
+    }
+
     // RefreshToken 생성 메서드
     public String generateRefreshToken(String email) {
         long now = System.currentTimeMillis();
@@ -71,9 +126,46 @@ public class JwtProvider {
                 .compact();
     }
 
-    // 토큰에서 인증 객체 생성
-    public Authentication getAuthentication(String token) {
-        Claims claims = parseClaims(token);
+    // Access Token 검증 후 인증 객체 생성 (요청당 서명 검증 1회, 이미 검증된 토큰은 캐시 사용)
+    // 유효하지 않거나 만료된 토큰, 회원 ID 가 없는 이전 형식의 토큰이면 null (토큰 재발급 필요)
+    public Authentication authenticate(String token) {
+        String tokenHash = hash(token);
+
+        VerifiedToken verified = verifiedTokens.getIfPresent(tokenHash);
+        if (verified == null || verified.remainingNanos() <= 0) {
+            Claims claims;
+            try {
+                claims = jwtParser.parseClaimsJws(token).getBody();
+            } catch (Exception e) {
+                log.info("JWT 검증 실패: {}", e.getMessage());
+                return null;
+            }
+
+            MemberPrincipal principal = toPrincipal(claims);
+            if (principal == null || claims.getExpiration() == null) {
+                return null;
+            }
+            verified = new VerifiedToken(principal, claims.getExpiration().getTime());
+            verifiedTokens.put(tokenHash, verified);
+        }
+
+        // 인증 객체는 요청마다 새로 생성 (캐시에는 principal 만 보관)
+        MemberPrincipal principal = verified.principal();
+
+        // 탈퇴한 회원의 토큰은 만료 전이어도 인증하지 않음
+        if (withdrawnMemberCache.contains(principal.getMemberId())) {
+            return null;
+        }
+        return new UsernamePasswordAuthenticationToken(principal, token, principal.getAuthorities());
+    }
+
+    // Claims 에서 회원 정보 추출
+    private MemberPrincipal toPrincipal(Claims claims) {
+        Number memberId = claims.get(MEMBER_ID_KEY, Number.class);
+        if (memberId == null || claims.get(AUTHORITIES_KEY) == null) {
+            return null;
+        }
+        Number profileVersion = claims.get(PROFILE_VERSION_KEY, Number.class);
 
         // 권한 정보 추출
         Collection<? extends GrantedAuthority> authorities =
@@ -81,15 +173,19 @@ public class JwtProvider {
                         .map(SimpleGrantedAuthority::new)
                         .collect(Collectors.toList());
 
-        // 인증 객체 생성 후 반환
-        User principal = new User(claims.getSubject(), "", authorities);
-        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+        return new MemberPrincipal(
+                memberId.longValue(),
+                claims.getSubject(),
+                claims.get(NICKNAME_KEY, String.class),
+                (profileVersion == null) ? 0 : profileVersion.longValue(),
+                authorities
+        );
     }
 
     // 토큰 유효성 검증
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            jwtParser.parseClaimsJws(token);
             return true;
         } catch (Exception e) {
             log.info("JWT 검증 실패: {}", e.getMessage());
@@ -100,10 +196,28 @@ public class JwtProvider {
     // 토큰의 Claims(내용) 추출
     public Claims parseClaims(String token) {
         try {
-            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
     }
 
+    // 캐시 키용 토큰 해시 (토큰 원문을 메모리에 키로 남기지 않음)
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 검증된 토큰의 회원 정보와 만료 시각
+    private record VerifiedToken(MemberPrincipal principal, long expiresAtMillis) {
+
+        long remainingNanos() {
+            return Math.max(0, (expiresAtMillis - System.currentTimeMillis()) * 1_000_000L);
+        }
+    }
+
 }
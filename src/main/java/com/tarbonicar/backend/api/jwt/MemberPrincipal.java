@@ -0,0 +1,25 @@
+package com.tarbonicar.backend.api.jwt;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+// JWT 로 인증된 회원 정보
+// username 은 기존과 같이 이메일이고, 토큰에 담긴 회원 ID / 닉네임 / 프로필 버전을 함께 제공하여 서비스에서 회원 조회 없이 사용
+@Getter
+public class MemberPrincipal extends User {
+
+    private final Long memberId;
+    private final String nickname;
+    private final long profileVersion; // 닉네임, 프로필 이미지가 바뀔 때마다 증가
+
+    public MemberPrincipal(Long memberId, String email, String nickname, long profileVersion,
+                           Collection<? extends GrantedAuthority> authorities) {
+        super(email, "", authorities);
+        this.memberId = memberId;
+        this.nickname = nickname;
+        this.profileVersion = profileVersion;
+    }
+}
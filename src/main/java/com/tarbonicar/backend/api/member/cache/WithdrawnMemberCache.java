@@ -0,0 +1,34 @@
+package com.tarbonicar.backend.api.member.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tarbonicar.backend.api.jwt.JwtProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+
+// 탈퇴 처리된 회원 ID
+// 탈퇴 이후에는 토큰이 새로 발급되지 않으므로, 탈퇴 전에 발급된 Access Token 이 모두 만료될 때까지만 보관
+@Component
+public class WithdrawnMemberCache {
+
+    private final Cache<Long, Boolean> withdrawn = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMillis(JwtProvider.ACCESS_TOKEN_EXPIRE_MILLIS))
+            .build();
+
+    public void add(Long memberId) {
+        withdrawn.put(memberId, Boolean.TRUE);
+    }
+
+    // 다른 서버에서 탈퇴 처리된 회원 반영 (이미 있는 회원은 보관 기간을 늘리지 않음)
+    public void addAll(Collection<Long> memberIds) {
+        for (Long memberId : memberIds) {
+            withdrawn.asMap().putIfAbsent(memberId, Boolean.TRUE);
+        }
+    }
+
+    public boolean contains(Long memberId) {
+        return withdrawn.getIfPresent(memberId) != null;
+    }
+}
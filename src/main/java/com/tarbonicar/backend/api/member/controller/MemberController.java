@@ -27,6 +27,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
@@ -128,13 +129,14 @@ public class MemberController {
 
     @Operation(summary = "프로필 이미지 업로드 API", description = "파일을 업로드하고 S3 URL을 반환합니다.")
     @PostMapping(value = "/profile-image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<ApiResponse<Map<String, String>>> updateProfileImage(
+    public CompletableFuture<ResponseEntity<ApiResponse<Map<String, String>>>> updateProfileImage(
             @RequestPart("file") MultipartFile file
     ) {
         String email = getCurrentUserEmail(); // 또는 임의로 "test@example.com"
-        String imageUrl = memberService.updateProfileImage(email, file);
 
-        return ApiResponse.success(SuccessStatus.UPDATE_PROFILE_IMAGE_SUCCESS, Map.of("imageUrl", imageUrl));
+        // 업로드가 끝날 때까지 요청 스레드를 점유하지 않도록 비동기로 응답
+        return memberService.updateProfileImage(email, file)
+                .thenApply(imageUrl -> ApiResponse.success(SuccessStatus.UPDATE_PROFILE_IMAGE_SUCCESS, Map.of("imageUrl", imageUrl)));
     }
 
     @Operation(summary = "회원 탈퇴 API", description = "현재 로그인한 회원을 탈퇴 처리합니다.")
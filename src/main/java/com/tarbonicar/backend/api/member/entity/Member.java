@@ -9,7 +9,10 @@ import lombok.*;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
-@Table(name = "member")
+@Table(
+        name = "member",
+        indexes = @Index(name = "idx_member_updated_at", columnList = "updated_at")
+)
 @AllArgsConstructor
 public class Member extends BaseTimeEntity {
 
@@ -26,9 +29,15 @@ public class Member extends BaseTimeEntity {
     private String socialId;
     private String refreshToken;
 
+    // 닉네임, 프로필 이미지가 바뀔 때마다 증가 (토큰에 담아 클라이언트가 프로필 갱신 여부 확인)
+    private long profileVersion;
+
     @Enumerated(EnumType.STRING)
     private Authority authority;
 
+    // 탈퇴 처리 여부 (작성한 데이터는 백그라운드 작업으로 삭제된 후 회원 정보 삭제)
+    private boolean withdrawn;
+
     @Builder
     public Member(String nickname, String password, String email, String profileImage, Authority authority) {
         this.nickname = nickname;
@@ -40,6 +49,7 @@ public class Member extends BaseTimeEntity {
 
     public void setNickname(String nickname) {
         this.nickname = nickname;
+        this.profileVersion++;
     }
 
     // 비밀번호 변경
@@ -50,6 +60,7 @@ public class Member extends BaseTimeEntity {
     // 프로필 이미지 변경
     public void setProfileImage(String profileImage) {
         this.profileImage = profileImage;
+        this.profileVersion++;
     }
   
     public void updatePassword(String newEncodedPassword) {
@@ -58,4 +69,10 @@ public class Member extends BaseTimeEntity {
   
     public void updateRefreshtoken(String refreshToken) { this.refreshToken = refreshToken; }
 
+    // 회원 탈퇴 (로그인, 토큰 재발급 불가)
+    public void withdraw() {
+        this.withdrawn = true;
+        this.refreshToken = null;
+    }
+
 }
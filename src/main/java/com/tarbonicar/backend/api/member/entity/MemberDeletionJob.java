@@ -0,0 +1,69 @@
+package com.tarbonicar.backend.api.member.entity;
+
+import com.tarbonicar.backend.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 회원 탈퇴 후 데이터 삭제 작업
+// chunk 를 처리할 때마다 같은 트랜잭션에서 진행 상황을 저장하므로, 서버가 재시작되어도 남은 단계부터 이어서 진행
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "member_deletion_job", indexes = {
+        @Index(name = "idx_member_deletion_job_phase", columnList = "phase"),           // 진행 중인 작업 조회 (매 주기)
+        @Index(name = "idx_member_deletion_job_created_at", columnList = "created_at")  // 최근 탈퇴 회원 동기화 (매 주기)
+})
+public class MemberDeletionJob extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "member_deletion_job_id")
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MemberDeletionPhase phase;
+
+    private long deletedComments;
+    private long deletedLikes;
+    private long deletedArticles;
+
+    private LocalDateTime completedAt;
+
+    public MemberDeletionJob(Long memberId) {
+        this.memberId = memberId;
+        this.phase = MemberDeletionPhase.COMMENTS;
+    }
+
+    public boolean isDone() {
+        return phase == MemberDeletionPhase.DONE;
+    }
+
+    public void moveTo(MemberDeletionPhase phase) {
+        this.phase = phase;
+    }
+
+    public void addDeletedComments(long count) {
+        this.deletedComments += count;
+    }
+
+    public void addDeletedLikes(long count) {
+        this.deletedLikes += count;
+    }
+
+    public void addDeletedArticles(long count) {
+        this.deletedArticles += count;
+    }
+
+    public void complete() {
+        this.phase = MemberDeletionPhase.DONE;
+        this.completedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,10 @@
+package com.tarbonicar.backend.api.member.entity;
+
+// 회원 삭제 작업 단계 (순서대로 진행)
+public enum MemberDeletionPhase {
+    COMMENTS, // 회원이 작성한 댓글
+    LIKES,    // 회원이 누른 좋아요
+    ARTICLES, // 회원이 작성한 게시글 (게시글에 달린 댓글/좋아요/검색 색인 포함)
+    MEMBER,   // 회원 정보
+    DONE
+}
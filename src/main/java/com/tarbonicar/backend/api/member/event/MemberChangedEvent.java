@@ -0,0 +1,13 @@
+package com.tarbonicar.backend.api.member.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 회원 닉네임, 프로필 이미지 변경 또는 회원 탈퇴 시 발행
+@Getter
+@AllArgsConstructor
+public class MemberChangedEvent {
+
+    private final Long memberId;
+    private final boolean withdrawn; // 회원 탈퇴면 true
+}
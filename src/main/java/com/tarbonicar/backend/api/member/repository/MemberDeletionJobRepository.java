@@ -0,0 +1,31 @@
+package com.tarbonicar.backend.api.member.repository;
+
+import com.tarbonicar.backend.api.member.entity.MemberDeletionJob;
+import com.tarbonicar.backend.api.member.entity.MemberDeletionPhase;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface MemberDeletionJobRepository extends JpaRepository<MemberDeletionJob, Long> {
+
+    boolean existsByMemberId(Long memberId);
+
+    // 진행 중인 작업 ID 조회
+    @Query("SELECT j.id FROM MemberDeletionJob j WHERE j.phase <> :phase ORDER BY j.id")
+    List<Long> findIdsByPhaseNot(@Param("phase") MemberDeletionPhase phase);
+
+    // 작업 잠금 조회 (여러 서버에서 같은 작업의 chunk 를 동시에 처리하지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM MemberDeletionJob j WHERE j.id = :id")
+    Optional<MemberDeletionJob> findByIdForUpdate(@Param("id") Long id);
+
+    // 해당 시각 이후 탈퇴 요청한 회원 ID 조회
+    @Query("SELECT j.memberId FROM MemberDeletionJob j WHERE j.createdAt > :since")
+    List<Long> findMemberIdsRequestedAfter(@Param("since") LocalDateTime since);
+}
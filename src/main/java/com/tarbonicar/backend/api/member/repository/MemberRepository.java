@@ -2,8 +2,12 @@ package com.tarbonicar.backend.api.member.repository;
 
 import com.tarbonicar.backend.api.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import javax.swing.text.html.Option;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -16,4 +20,16 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findBySocialId(String socialId);
 
     Optional<Member> findByRefreshToken(String refreshToken);
+
+    // 가장 큰 회원 ID 조회
+    @Query("SELECT COALESCE(MAX(m.id), 0) FROM Member m")
+    long findMaxId();
+
+    // 프로필 이미지 조회 (ID 구간 단위, 이미지 정리 작업의 참조 확인용)
+    @Query("SELECT m.profileImage FROM Member m WHERE m.id BETWEEN :fromId AND :toId AND m.profileImage IS NOT NULL")
+    List<String> findProfileImagesByIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 기준 시각 이후 수정된 회원의 프로필 이미지 조회 (이미지 정리 작업의 삭제 직전 참조 재확인용)
+    @Query("SELECT m.profileImage FROM Member m WHERE m.updatedAt >= :since AND m.profileImage IS NOT NULL")
+    List<String> findProfileImagesUpdatedSince(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,27 @@
+package com.tarbonicar.backend.api.member.scheduler;
+
+import com.tarbonicar.backend.api.member.service.MemberDeletionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 회원 탈퇴 데이터 삭제 작업 실행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberDeletionScheduler {
+
+    private final MemberDeletionService memberDeletionService;
+
+    @Scheduled(fixedDelayString = "${member.deletion.poll-interval-ms:1000}")
+    public void runMemberDeletion() {
+        try {
+            memberDeletionService.syncWithdrawnMembers();
+            memberDeletionService.runPendingJobs();
+        } catch (Exception e) {
+            // 실패한 chunk 는 롤백되므로 다음 주기에 같은 단계부터 다시 시도
+            log.warn("회원 삭제 작업 실패, 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+}
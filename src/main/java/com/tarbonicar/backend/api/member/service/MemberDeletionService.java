@@ -0,0 +1,217 @@
+package com.tarbonicar.backend.api.member.service;
+
+import com.tarbonicar.backend.api.article.cache.ArticleCountCache;
+import com.tarbonicar.backend.api.article.event.ArticleChangedEvent;
+import com.tarbonicar.backend.api.article.repository.ArticleLikeRepository;
+import com.tarbonicar.backend.api.article.repository.ArticleRepository;
+import com.tarbonicar.backend.api.article.service.ArticleSearchIndexService;
+import com.tarbonicar.backend.api.aws.s3.service.ImageAssetService;
+import com.tarbonicar.backend.api.aws.s3.service.S3Service;
+import com.tarbonicar.backend.api.comment.repository.CommentRepository;
+import com.tarbonicar.backend.api.jwt.JwtProvider;
+import com.tarbonicar.backend.api.member.cache.WithdrawnMemberCache;
+import com.tarbonicar.backend.api.member.entity.Member;
+import com.tarbonicar.backend.api.member.entity.MemberDeletionJob;
+import com.tarbonicar.backend.api.member.entity.MemberDeletionPhase;
+import com.tarbonicar.backend.api.member.event.MemberChangedEvent;
+import com.tarbonicar.backend.api.member.repository.MemberDeletionJobRepository;
+import com.tarbonicar.backend.api.member.repository.MemberRepository;
+import com.tarbonicar.backend.common.config.chunk.ChunkSize;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 회원 탈퇴 데이터 삭제 작업
+// 탈퇴 요청 시에는 회원을 탈퇴 상태로 바꾸고 작업만 등록하며, 댓글/좋아요/게시글은 스케줄러가 chunk 단위로 나누어 삭제
+// chunk 하나가 하나의 짧은 트랜잭션이므로 게시글이 많은 회원도 article 테이블 잠금을 오래 잡지 않음
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberDeletionService {
+
+    private final MemberDeletionJobRepository memberDeletionJobRepository;
+    private final MemberRepository memberRepository;
+    private final CommentRepository commentRepository;
+    private final ArticleLikeRepository articleLikeRepository;
+    private final ArticleRepository articleRepository;
+    private final ArticleSearchIndexService articleSearchIndexService;
+    private final ArticleCountCache articleCountCache;
+    private final ImageAssetService imageAssetService;
+    private final S3Service s3Service;
+    private final WithdrawnMemberCache withdrawnMemberCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${member.deletion.chunk-size:500}")
+    private int chunkSize;
+
+    // 게시글 삭제 단계에서 한 번에 처리할 게시글 수 (게시글에 달린 댓글/좋아요는 chunk-size 단위로 먼저 삭제)
+    @Value("${member.deletion.article-chunk-size:100}")
+    private int articleChunkSize;
+
+    // 한 번 실행할 때 처리할 최대 chunk 수 (다른 스케줄 작업이 밀리지 않도록)
+    @Value("${member.deletion.chunks-per-run:20}")
+    private int chunksPerRun;
+
+    @PostConstruct
+    void validateChunkSizes() {
+        ChunkSize.requirePositive("member.deletion.chunk-size", chunkSize);
+        ChunkSize.requirePositive("member.deletion.article-chunk-size", articleChunkSize);
+    }
+
+    // 탈퇴 요청 (호출하는 쪽 트랜잭션 안에서 회원 비활성화 + 작업 등록)
+    public void request(Member member) {
+        member.withdraw();
+        if (!memberDeletionJobRepository.existsByMemberId(member.getId())) {
+            memberDeletionJobRepository.save(new MemberDeletionJob(member.getId()));
+        }
+        // 이미 발급된 Access Token 도 바로 사용할 수 없도록 커밋 후 등록 (롤백되면 등록하지 않음)
+        Long memberId = member.getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    withdrawnMemberCache.add(memberId);
+                }
+            });
+        } else {
+            withdrawnMemberCache.add(memberId);
+        }
+    }
+
+    // 다른 서버에서 탈퇴 처리된 회원도 토큰 인증에서 제외되도록 최근 탈퇴 회원 동기화
+    public void syncWithdrawnMembers() {
+        LocalDateTime since = LocalDateTime.now().minus(Duration.ofMillis(JwtProvider.ACCESS_TOKEN_EXPIRE_MILLIS));
+        withdrawnMemberCache.addAll(memberDeletionJobRepository.findMemberIdsRequestedAfter(since));
+    }
+
+    // 진행 중인 작업 처리 (서버 재시작 후에는 저장된 단계부터 이어서 진행)
+    public void runPendingJobs() {
+        int remaining = chunksPerRun;
+
+        for (Long jobId : memberDeletionJobRepository.findIdsByPhaseNot(MemberDeletionPhase.DONE)) {
+            while (remaining > 0) {
+                remaining--;
+                Boolean hasMore = transactionTemplate.execute(status -> processChunk(jobId));
+                if (!Boolean.TRUE.equals(hasMore)) {
+                    break;
+                }
+            }
+            if (remaining == 0) {
+                return;
+            }
+        }
+    }
+
+    // chunk 하나 처리 후 진행 상황 저장, 남은 작업이 있으면 true
+    private boolean processChunk(Long jobId) {
+        MemberDeletionJob job = memberDeletionJobRepository.findByIdForUpdate(jobId).orElse(null);
+        if (job == null || job.isDone()) {
+            return false;
+        }
+
+        Long memberId = job.getMemberId();
+        Pageable chunk = PageRequest.of(0, chunkSize);
+
+        switch (job.getPhase()) {
+            case COMMENTS -> {
+                // 회원이 작성한 댓글 삭제 후 게시글별 댓글 수 감소
+                List<Object[]> rows = commentRepository.findIdAndArticleIdByMemberId(memberId, chunk);
+                if (rows.isEmpty()) {
+                    job.moveTo(MemberDeletionPhase.LIKES);
+                    break;
+                }
+                List<Long> commentIds = new ArrayList<>(rows.size());
+                Map<Long, Long> countByArticle = new HashMap<>();
+                for (Object[] row : rows) {
+                    commentIds.add((Long) row[0]);
+                    countByArticle.merge((Long) row[1], 1L, Long::sum);
+                }
+                commentRepository.deleteByIdIn(commentIds);
+                countByArticle.forEach(articleRepository::decreaseCommentCount);
+                job.addDeletedComments(commentIds.size());
+            }
+            case LIKES -> {
+                // 회원이 누른 좋아요 삭제 후 게시글별 좋아요 수 감소 (회원당 게시글별 좋아요는 하나)
+                List<Object[]> rows = articleLikeRepository.findIdAndArticleIdByMemberId(memberId, chunk);
+                if (rows.isEmpty()) {
+                    job.moveTo(MemberDeletionPhase.ARTICLES);
+                    break;
+                }
+                List<Long> likeIds = new ArrayList<>(rows.size());
+                Set<Long> articleIds = new HashSet<>();
+                for (Object[] row : rows) {
+                    likeIds.add((Long) row[0]);
+                    articleIds.add((Long) row[1]);
+                }
+                articleLikeRepository.deleteByIdIn(likeIds);
+                articleRepository.decreaseLikeCount(articleIds);
+                job.addDeletedLikes(likeIds.size());
+            }
+            case ARTICLES -> {
+                // 회원이 작성한 게시글과, 게시글에 달린 다른 회원의 댓글/좋아요, 검색 색인 삭제
+                // 댓글/좋아요가 많은 게시글도 한 트랜잭션이 커지지 않도록 ID chunk 단위로 먼저 삭제하고,
+                // 남은 댓글/좋아요가 없을 때 게시글 삭제
+                List<Long> articleIds = articleRepository.findIdsByMemberId(memberId, PageRequest.of(0, articleChunkSize));
+                if (articleIds.isEmpty()) {
+                    job.moveTo(MemberDeletionPhase.MEMBER);
+                    break;
+                }
+
+                List<Long> commentIds = commentRepository.findIdsByArticleIdIn(articleIds, chunk);
+                if (!commentIds.isEmpty()) {
+                    commentRepository.deleteByIdIn(commentIds);
+                    break;
+                }
+                List<Long> likeIds = articleLikeRepository.findIdsByArticleIdIn(articleIds, chunk);
+                if (!likeIds.isEmpty()) {
+                    articleLikeRepository.deleteByIdIn(likeIds);
+                    break;
+                }
+
+                articleSearchIndexService.removeAll(articleIds);
+                // 본문에 포함된 업로드 이미지 사용 종료 (객체 삭제는 커밋 후)
+                articleRepository.findContentsByIdIn(articleIds)
+                        .forEach(content -> imageAssetService.releaseAll(imageAssetService.fileKeysIn(content)));
+                articleRepository.deleteByIdIn(articleIds);
+                articleIds.forEach(articleId -> eventPublisher.publishEvent(new ArticleChangedEvent(articleId)));
+                articleCountCache.invalidateAll();
+                job.addDeletedArticles(articleIds.size());
+            }
+            case MEMBER -> {
+                // 프로필 이미지 사용 종료 (객체 삭제는 커밋 후)
+                memberRepository.findById(memberId)
+                        .map(Member::getProfileImage)
+                        .ifPresent(s3Service::releaseImage);
+                memberRepository.deleteById(memberId);
+                job.complete();
+
+                // 작성자 정보가 들어 있는 게시글 상세 캐시 무효화 (커밋 후)
+                eventPublisher.publishEvent(new MemberChangedEvent(memberId, true));
+                log.info("회원 삭제 완료: memberId={}, comments={}, likes={}, articles={}",
+                        memberId, job.getDeletedComments(), job.getDeletedLikes(), job.getDeletedArticles());
+            }
+            default -> {
+                return false;
+            }
+        }
+        return !job.isDone();
+    }
+}
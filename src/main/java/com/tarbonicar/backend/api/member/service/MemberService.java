@@ -1,13 +1,11 @@
 package com.tarbonicar.backend.api.member.service;
 
-import com.tarbonicar.backend.api.article.repository.ArticleLikeRepository;
-import com.tarbonicar.backend.api.article.repository.ArticleRepository;
 import com.tarbonicar.backend.api.article.service.ArticleService;
 import com.tarbonicar.backend.api.aws.s3.service.S3Service;
-import com.tarbonicar.backend.api.comment.repository.CommentRepository;
 import com.tarbonicar.backend.api.jwt.JwtProvider;
 import com.tarbonicar.backend.api.member.dto.*;
 import com.tarbonicar.backend.api.member.entity.Member;
+import com.tarbonicar.backend.api.member.event.MemberChangedEvent;
 import com.tarbonicar.backend.api.member.repository.MemberRepository;
 import com.tarbonicar.backend.common.exception.BadRequestException;
 import com.tarbonicar.backend.common.exception.NotFoundException;
@@ -16,19 +14,20 @@ import com.tarbonicar.backend.api.jwt.JwtProvider;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -40,10 +39,10 @@ public class MemberService {
     private final JwtProvider jwtProvider;
     private final S3Service s3Service;
 
-    private final ArticleLikeRepository articleLikeRepository;
-    private final CommentRepository commentRepository;
-    private final ArticleRepository articleRepository;
     private final ArticleService articleService;
+    private final MemberDeletionService memberDeletionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     // 이메일 회원가입 메서드
     @Transactional
@@ -63,6 +62,11 @@ public class MemberService {
         String encodedPassword = passwordEncoder.encode(requestDto.getPassword());
         String imageUrl = requestDto.getProfileImage();
 
+        // 업로드 API 로 올린 이미지면 사용 횟수 증가 (가입이 롤백되면 함께 롤백), 그 외 URL 은 그대로 저장
+        if (StringUtils.hasText(imageUrl)) {
+            s3Service.acquireImage(imageUrl);
+        }
+
         Member member = requestDto.toEntity(encodedPassword, imageUrl);
         memberRepository.save(member);
     }
@@ -82,14 +86,13 @@ public class MemberService {
         Member member = memberRepository.findBySocialId(userInfo.getId())
                 .orElseGet(() -> kakaoRegister(userInfo));  // 없으면 회원가입
 
-        // 인증 객체 생성 (비밀번호 없이 Social 인증 사용자용)
-        Authentication authentication = new UsernamePasswordAuthenticationToken(
-                member.getEmail(), null,
-                List.of(() -> "ROLE_USER")
-        );
+        // 탈퇴 처리 중인 회원은 로그인 불가
+        if (member.isWithdrawn()) {
+            throw new BadRequestException(ErrorStatus.WITHDRAWN_MEMBER_EXCEPTION.getMessage());
+        }
 
-        // JWT 발급
-        String accessToken = jwtProvider.generateAccessToken(authentication);
+        // JWT 발급 (비밀번호 없이 Social 인증 사용자용)
+        String accessToken = jwtProvider.generateAccessToken(member);
         String refreshToken = jwtProvider.generateRefreshToken(member.getEmail());
 
         // 로그인 시 응답 데이터 구성
@@ -101,6 +104,7 @@ public class MemberService {
     }
 
     // 새 유저 회원가입 처리
+    // 카카오 프로필 이미지는 외부 URL 이므로 사용 횟수 관리 대상이 아님 (releaseImage 에서도 무시)
     private Member kakaoRegister(KakaoUserInfoDto dto) {
         Member member = Member.builder()
                 .socialId(dto.getId())
@@ -120,15 +124,17 @@ public class MemberService {
         Member member = memberRepository.findByEmail(memberLoginRequestDto.getEmail())
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_MEMBER_EXCEPTION.getMessage()));
 
+        // 탈퇴 처리 중인 회원은 로그인 불가
+        if (member.isWithdrawn()) {
+            throw new BadRequestException(ErrorStatus.WITHDRAWN_MEMBER_EXCEPTION.getMessage());
+        }
+
         // 비밀번호 일치 확인
         if (!passwordEncoder.matches(memberLoginRequestDto.getPassword(), member.getPassword())) {
             throw new BadRequestException(ErrorStatus.PASSWORD_MISMATCH_EXCEPTION.getMessage());
         }
-        // 인증 객체 생성 (Spring Security용)
-        Authentication authentication = memberLoginRequestDto.toAuthentication();
-
         // JWT 토큰 발급
-        String accessToken = jwtProvider.generateAccessToken(authentication);
+        String accessToken = jwtProvider.generateAccessToken(member);
         String refreshToken = jwtProvider.generateRefreshToken(member.getEmail());
 
         member.updateRefreshtoken(refreshToken);
@@ -153,6 +159,9 @@ public class MemberService {
         Member member = memberRepository.findByEmail(email)
                 .orElseThrow(() -> new BadRequestException(ErrorStatus.MEMBER_NOT_FOUND_EXCEPTION.getMessage()));
         member.setNickname(nickname);
+
+        // 작성한 게시글 상세 캐시 무효화 (커밋 후)
+        eventPublisher.publishEvent(new MemberChangedEvent(member.getId(), false));
     }
 
     // 비밀번호 변경
@@ -170,39 +179,47 @@ public class MemberService {
     }
 
     // 프로필 이미지 변경
-    @Transactional
-    public String updateProfileImage(String email, MultipartFile file) {
+    // 업로드(네트워크 전송)는 트랜잭션 없이 비동기로 진행하고, 완료 후 짧은 트랜잭션으로 회원 정보만 변경
+    public CompletableFuture<String> updateProfileImage(String email, MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new BadRequestException("파일이 비어 있습니다.");
         }
 
         Member member = memberRepository.findByEmail(email)
                 .orElseThrow(() -> new BadRequestException("회원 정보를 찾을 수 없습니다."));
-
-        try {
-            String imageUrl = s3Service.uploadImage(file); // 이 메서드가 실제 S3 업로드
-            member.setProfileImage(imageUrl);
+        Long memberId = member.getId();
+
+        // 업로드(실제 S3 전송)가 끝나면 업로드 후처리 스레드 풀에서 회원 정보 변경
+        return s3Service.afterUpload(s3Service.uploadImage(file), imageUrl -> {
+            // 새 이미지 사용 시작과 이전 이미지 사용 종료를 회원 정보 변경과 같은 트랜잭션에서 처리
+            // (실패하면 함께 롤백되고, 업로드만 된 이미지는 유예 기간 후 정리 작업이 삭제)
+            transactionTemplate.executeWithoutResult(status -> {
+                Member target = memberRepository.findById(memberId)
+                        .orElseThrow(() -> new BadRequestException("회원 정보를 찾을 수 없습니다."));
+                String previousImage = target.getProfileImage();
+
+                s3Service.acquireImage(imageUrl);
+                target.setProfileImage(imageUrl);
+
+                // 이전 프로필 이미지 사용 종료 (객체 삭제는 커밋 후)
+                if (StringUtils.hasText(previousImage)) {
+                    s3Service.releaseImage(previousImage);
+                }
+
+                // 작성한 게시글 상세 캐시 무효화 (커밋 후)
+                eventPublisher.publishEvent(new MemberChangedEvent(memberId, false));
+            });
             return imageUrl;
-        } catch (IOException e) {
-            throw new RuntimeException("이미지 업로드 실패", e);
-        }
+        });
     }
 
+    // 회원 탈퇴 (회원은 바로 비활성화하고, 작성한 데이터 삭제는 백그라운드 작업으로 처리)
     @Transactional
     public void deleteMember(String email) {
         Member member = memberRepository.findByEmail(email)
                 .orElseThrow(() -> new BadRequestException(ErrorStatus.MEMBER_NOT_FOUND_EXCEPTION.getMessage()));
 
-        commentRepository.deleteByMember(member);
-        List<Long> likedArticleIds = articleLikeRepository.findLikedArticleIdsByMemberId(member.getId());
-        if (!likedArticleIds.isEmpty()) {
-            articleRepository.decreaseLikeCount(likedArticleIds);
-        }
-        articleLikeRepository.deleteByMemberId(member.getId());
-        articleRepository.deleteByMember(member);
-
-        // 마지막으로 회원 정보 삭제
-        memberRepository.delete(member);
+        memberDeletionService.request(member);
     }
 
     // 토큰 
@@ -217,9 +234,7 @@ public class MemberService {
         Member member = memberRepository.findByRefreshToken(refreshToken)
                 .orElseThrow(() -> new BadRequestException("유효하지 않은 리프레시"));
 
-        Authentication authentication = toAuthentication(member.getEmail(), member.getPassword());
-
-        String newAccessToken = jwtProvider.generateAccessToken(authentication);
+        String newAccessToken = jwtProvider.generateAccessToken(member);
         String newRefreshToken = jwtProvider.generateRefreshToken(member.getEmail());
 
         member.updateRefreshtoken(newRefreshToken);
@@ -12,8 +12,10 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestControllerAdvice
 public class ControllerExceptionAdvice {
@@ -24,6 +26,14 @@ public class ControllerExceptionAdvice {
                 .body(ApiResponse.fail(ex.getStatusCode(), ex.getResponseMessage()));
     }
 
+    // 업로드 스레드 풀의 작업 큐가 가득 차 거절된 경우
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ApiResponse> handleRejectedExecution(RejectedExecutionException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.fail(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        ErrorStatus.TOO_MANY_UPLOADS_EXCEPTION.getMessage()));
+    }
+
     @ExceptionHandler(MissingServletRequestParameterException.class)
     public ResponseEntity<ApiResponse> handleMissingParameter(MissingServletRequestParameterException ex) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -44,4 +54,11 @@ public class ControllerExceptionAdvice {
                 .body(ApiResponse.fail(HttpStatus.BAD_REQUEST.value(),String.format("%s. (%s)", fieldError.getDefaultMessage(), fieldError.getField())));
     }
 
+    // @RequestParam 등에 붙은 제약 조건(@Min, @Max 등) 위반
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    protected ResponseEntity<ApiResponse> handleHandlerMethodValidationException(final HandlerMethodValidationException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.fail(HttpStatus.BAD_REQUEST.value(), ErrorStatus.INVALID_REQUEST_PARAMETER_EXCEPTION.getMessage()));
+    }
+
 }
\ No newline at end of file
@@ -1,17 +1,23 @@
 package com.tarbonicar.backend.common.config.aws;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 import java.net.URI;
 
+// storage.type=local 이면 S3 클라이언트를 만들지 않음 (cloud.aws.* 설정 없이 실행 가능)
 @Configuration
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
 public class MinioConfig {
 
     @Value("${cloud.aws.credentials.accessKey}")
@@ -26,6 +32,10 @@ public class MinioConfig {
     @Value("${cloud.aws.s3.domain}")
     private String minioEndpoint;
 
+    // 이 크기 이상이면 multipart 업로드 (part 크기도 같은 값 사용, S3 최소 part 크기는 5MB)
+    @Value("${cloud.aws.s3.multipart-threshold-bytes:8388608}")
+    private long multipartThresholdBytes;
+
     @Bean
     public S3Client s3Client() {
         S3Configuration s3Configuration = S3Configuration.builder()
@@ -43,4 +53,43 @@ public class MinioConfig {
                 .serviceConfiguration(s3Configuration)
                 .build();
     }
+
+    // 비동기 업로드용 클라이언트 (요청 스레드를 전송 시간 동안 붙잡지 않음)
+    @Bean
+    public S3AsyncClient s3AsyncClient() {
+        return S3AsyncClient.builder()
+                .credentialsProvider(
+                        StaticCredentialsProvider.create(
+                                AwsBasicCredentials.create(accessKey, secretKey)
+                        )
+                )
+                .region(Region.of(region))
+                .endpointOverride(URI.create(minioEndpoint))
+                .forcePathStyle(true)
+                .multipartEnabled(true)
+                .multipartConfiguration(MultipartConfiguration.builder()
+                        .thresholdInBytes(multipartThresholdBytes)
+                        .minimumPartSizeInBytes(multipartThresholdBytes)
+                        .build())
+                .build();
+    }
+
+    // 클라이언트가 버킷에 직접 업로드할 presigned URL 발급용
+    @Bean
+    public S3Presigner s3Presigner() {
+        S3Configuration s3Configuration = S3Configuration.builder()
+                .pathStyleAccessEnabled(true)
+                .build();
+
+        return S3Presigner.builder()
+                .credentialsProvider(
+                        StaticCredentialsProvider.create(
+                                AwsBasicCredentials.create(accessKey, secretKey)
+                        )
+                )
+                .region(Region.of(region))
+                .endpointOverride(URI.create(minioEndpoint))
+                .serviceConfiguration(s3Configuration)
+                .build();
+    }
 }
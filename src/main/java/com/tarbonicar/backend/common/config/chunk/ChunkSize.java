@@ -0,0 +1,15 @@
+package com.tarbonicar.backend.common.config.chunk;
+
+// chunk 단위 작업의 구간 / 페이지 크기 설정 확인
+// 0 이하이면 구간이 넘어가지 않거나 빈 페이지만 읽어 작업이 끝나지 않으므로, 각 작업이 시작 시(@PostConstruct) 확인
+public final class ChunkSize {
+
+    private ChunkSize() {
+    }
+
+    public static void requirePositive(String property, long value) {
+        if (value < 1) {
+            throw new IllegalStateException(property + " 는 1 이상이어야 합니다: " + value);
+        }
+    }
+}
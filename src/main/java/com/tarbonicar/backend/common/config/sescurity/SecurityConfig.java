@@ -3,6 +3,7 @@ package com.tarbonicar.backend.common.config.sescurity;
 
 import com.tarbonicar.backend.api.jwt.JwtFilter;
 import com.tarbonicar.backend.api.jwt.JwtProvider;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -62,11 +63,13 @@ public class SecurityConfig {
                 .headers(headers -> headers.frameOptions(HeadersConfigurer.FrameOptionsConfig::disable)) // H2 콘솔 접근 위해 frame 옵션 비활성화
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // 세션 사용 안함 (JWT 대비용)
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // 비동기 응답 재디스패치는 최초 요청에서 이미 인가됨
                         .requestMatchers("/h2-console/**", "/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**", "/swagger-ui.html", "/webjars/**", "/api-doc").permitAll() // H2, Swagger 인증 허용
                         .requestMatchers("/api/v1/member/signup", "/api/v1/member/reissue", "/api/v1/member/kakao-accesstoken", "/api/v1/member/kakao-login", "/api/v1/member/token-reissue", "/api/v1/member/login", "/api/v1/member/email-check").permitAll() // 회원가입, 로그인 인증 허용
+                        .requestMatchers("/api/v1/category/import").hasRole("ADMIN") // 카테고리 일괄 등록은 관리자만
                         .requestMatchers("/api/v1/category", "/api/v1/category/search/**", "/api/v1/category/**").permitAll() // 카테고리 관련 인증 허용
-                        .requestMatchers("/api/v1/s3/upload-image").permitAll() // 이미지 업로드 인증 허용
-                        .requestMatchers(HttpMethod.GET, "/api/v1/article", "/api/v1/article/list", "/api/v1/comment").permitAll() // 게시글, 댓글 조회 인증 허용
+                        .requestMatchers("/api/v1/s3/upload-image").permitAll() // 이미지 업로드 인증 허용 (presigned 업로드는 발급받은 회원만 완료할 수 있도록 인증 필요)
+                        .requestMatchers(HttpMethod.GET, "/api/v1/article", "/api/v1/article/list", "/api/v1/article/list/cursor", "/api/v1/article/search", "/api/v1/comment", "/api/v1/comment/cursor", "/api/v1/s3/image-variants", "/files/**").permitAll() // 게시글, 댓글 조회 인증 허용
                         .requestMatchers("/api/v1/member/nickname").authenticated()
                         .requestMatchers("/api/v1/password-reset/email-request", "/api/v1/password-reset/email-confirm", "/api/v1/password-reset/password-reset").permitAll() // 비밀번호 초기화 인증 허용
                         .anyRequest().authenticated()
@@ -0,0 +1,58 @@
+package com.tarbonicar.backend.common.config.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class StorageConfig {
+
+    // 업로드 스트림 전송용 스레드 수 / 대기 작업 수
+    @Value("${storage.upload-threads:${cloud.aws.s3.upload-threads:16}}")
+    private int uploadThreads;
+
+    @Value("${storage.upload-queue-capacity:100}")
+    private int uploadQueueCapacity;
+
+    // 업로드 완료 후 DB 반영용 스레드 수 / 대기 작업 수 (DB 커넥션 풀 크기보다 작게 설정)
+    @Value("${storage.callback-threads:4}")
+    private int callbackThreads;
+
+    @Value("${storage.callback-queue-capacity:100}")
+    private int callbackQueueCapacity;
+
+    // MultipartFile 스트림을 저장소로 흘려보내는 스레드 풀 (DB 작업은 실행하지 않음)
+    // 작업 큐가 가득 차면 RejectedExecutionException 으로 거절하고 업로드 요청은 503 으로 응답
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService storageExecutor() {
+        return newPool("storage-upload-", uploadThreads, uploadQueueCapacity);
+    }
+
+    // 업로드 완료 후 색인 등록 / 회원 정보 변경 등 DB 작업을 처리하는 스레드 풀
+    // 업로드가 몰려도 DB 커넥션을 callback-threads 개까지만 사용하고, 작업 큐가 가득 차면 503 으로 응답
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService storageCallbackExecutor() {
+        return newPool("storage-callback-", callbackThreads, callbackQueueCapacity);
+    }
+
+    private ExecutorService newPool(String namePrefix, int threads, int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                threads, threads,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, namePrefix + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+}
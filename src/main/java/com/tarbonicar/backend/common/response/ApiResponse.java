@@ -3,6 +3,7 @@ package com.tarbonicar.backend.common.response;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 
 @Builder
@@ -25,6 +26,10 @@ public class ApiResponse<T> {
         return ResponseEntity.status(status.getStatusCode()).body(response);
     }
 
+    public static <T> ResponseEntity<ApiResponse<SliceResponse<T>>> success_slice(SuccessStatus status, Slice<T> slice) {
+        return success(status, SliceResponse.of(slice));
+    }
+
     public static ResponseEntity<ApiResponse<Void>> success_only(SuccessStatus status) {
         ApiResponse<Void> response = ApiResponse.<Void>builder()
                 .status(status.getStatusCode())
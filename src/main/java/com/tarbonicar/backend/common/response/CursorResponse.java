@@ -0,0 +1,61 @@
+package com.tarbonicar.backend.common.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorResponse<T> {
+
+    // 커서 조회 1회당 최대 개수
+    public static final int MAX_SIZE = 100;
+
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final boolean hasPrevious;
+    private final String nextCursor;
+    private final String prevCursor;
+
+    // size + 1 건 조회 결과로 커서 응답 생성
+    // backward(이전 페이지 조회)인 경우 역순으로 조회된 결과를 다시 뒤집어 화면 순서로 맞춤
+    public static <T> CursorResponse<T> of(
+            List<T> rows,
+            int size,
+            boolean hasCursor,
+            boolean backward,
+            Function<T, String> nextCursorOf,
+            Function<T, String> prevCursorOf
+    ) {
+        boolean hasMore = rows.size() > size;
+        List<T> content = new ArrayList<>(hasMore ? rows.subList(0, size) : rows);
+        if (backward) {
+            Collections.reverse(content);
+        }
+
+        // 이전 페이지로 이동한 경우 다음 페이지는 항상 존재
+        boolean hasNext = backward || hasMore;
+        boolean hasPrevious = backward ? hasMore : hasCursor;
+
+        String nextCursor = (hasNext && !content.isEmpty()) ? nextCursorOf.apply(content.get(content.size() - 1)) : null;
+        String prevCursor = (hasPrevious && !content.isEmpty()) ? prevCursorOf.apply(content.get(0)) : null;
+
+        return CursorResponse.<T>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .hasPrevious(hasPrevious)
+                .nextCursor(nextCursor)
+                .prevCursor(prevCursor)
+                .build();
+    }
+}
@@ -28,6 +28,19 @@ public enum ErrorStatus {
     INVALID_PASSWORD_RESET_CODE_EXCEPTION(HttpStatus.BAD_REQUEST,"올바르지 않은 인증 코드 입니다."),
     EXPIRED_PASSWORD_RESET_CODE_EXCEPTION(HttpStatus.BAD_REQUEST,"이미 만료된 인증 코드 입니다."),
     UNVERIFIED_PASSWORD_RESET_CODE_EXCEPTION(HttpStatus.BAD_REQUEST, "미인증 된 인증 코드 입니다."),
+    INVALID_CURSOR_EXCEPTION(HttpStatus.BAD_REQUEST, "올바르지 않은 커서 값 입니다."),
+    INVALID_REQUEST_PARAMETER_EXCEPTION(HttpStatus.BAD_REQUEST, "요청 값이 올바르지 않습니다."),
+    CURSOR_SORT_MISMATCH_EXCEPTION(HttpStatus.BAD_REQUEST, "커서의 정렬 기준과 요청한 정렬 기준이 다릅니다."),
+    TOO_MANY_ARTICLE_IDS_EXCEPTION(HttpStatus.BAD_REQUEST, "한 번에 조회할 수 있는 게시글 수를 초과했습니다."),
+    INVALID_SEARCH_KEYWORD_EXCEPTION(HttpStatus.BAD_REQUEST, "검색어를 입력해 주세요."),
+    INVALID_CATEGORY_IMPORT_FILE_EXCEPTION(HttpStatus.BAD_REQUEST, "카테고리 파일을 읽을 수 없습니다."),
+    CATEGORY_IN_USE_EXCEPTION(HttpStatus.BAD_REQUEST, "게시글이 등록된 카테고리는 삭제할 수 없습니다."),
+    WITHDRAWN_MEMBER_EXCEPTION(HttpStatus.BAD_REQUEST, "탈퇴 처리된 회원입니다."),
+    INVALID_UPLOAD_CONTENT_TYPE_EXCEPTION(HttpStatus.BAD_REQUEST, "업로드할 수 없는 파일 형식입니다."),
+    UPLOAD_SIZE_EXCEEDED_EXCEPTION(HttpStatus.BAD_REQUEST, "업로드할 수 있는 파일 크기를 초과했습니다."),
+    INVALID_UPLOAD_KEY_EXCEPTION(HttpStatus.BAD_REQUEST, "올바르지 않은 업로드 경로입니다."),
+    UNSUPPORTED_PRESIGNED_UPLOAD_EXCEPTION(HttpStatus.BAD_REQUEST, "현재 저장소에서는 직접 업로드를 지원하지 않습니다."),
+    EXPIRED_PRESIGNED_UPLOAD_EXCEPTION(HttpStatus.BAD_REQUEST, "업로드 URL 유효 시간이 지났습니다. 다시 발급받아 주세요."),
 
     /**
      * 401 UNAUTHORIZED
@@ -47,12 +60,18 @@ public enum ErrorStatus {
     NOT_FOUND_ARTICLE_EXCEPTION(HttpStatus.NOT_FOUND,"존재하지 않는 게시글 입니다."),
     NOT_FOUND_COMMENT_EXCEPTION(HttpStatus.NOT_FOUND,"존재하지 않는 댓글 입니다."),
     MEMBER_NOT_FOUND_EXCEPTION(HttpStatus.NOT_FOUND, "존재하지 않는 사용자입니다."),
+    NOT_FOUND_UPLOAD_IMAGE_EXCEPTION(HttpStatus.NOT_FOUND, "업로드된 이미지가 없습니다."),
 
     /**
      * 500 SERVER_ERROR
      */
     FAIL_UPLOAD_EXCEPTION(HttpStatus.INTERNAL_SERVER_ERROR,"파일 업로드 실패하였습니다."),
 
+    /**
+     * 503 SERVICE_UNAVAILABLE
+     */
+    TOO_MANY_UPLOADS_EXCEPTION(HttpStatus.SERVICE_UNAVAILABLE, "업로드 요청이 많습니다. 잠시 후 다시 시도해 주세요."),
+
     ;
 
     private final HttpStatus httpStatus;
@@ -0,0 +1,27 @@
+package com.tarbonicar.backend.common.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+// 전체 개수 없이 다음 페이지 존재 여부만 전달하는 페이지 응답 (무한 스크롤용)
+@Getter
+@Builder
+public class SliceResponse<T> {
+
+    private final List<T> content;
+    private final int page;
+    private final int size;
+    private final boolean hasNext;
+
+    public static <T> SliceResponse<T> of(Slice<T> slice) {
+        return SliceResponse.<T>builder()
+                .content(slice.getContent())
+                .page(slice.getNumber())
+                .size(slice.getNumberOfElements())
+                .hasNext(slice.hasNext())
+                .build();
+    }
+}
@@ -17,12 +17,16 @@ public enum SuccessStatus {
     SEND_CARTYPE_CATEGORY_SUCCESS(HttpStatus.OK,"차량 종류 카테고리 조회 성공"),
     SEND_CARNAME_CATEGORY_SUCCESS(HttpStatus.OK,"차량 카테고리 조회 성공"),
     SEND_CARAGE_CATEGORY_SUCCESS(HttpStatus.OK,"차량 연식 카테고리 조회 성공"),
+    SEND_CATEGORY_VERSION_SUCCESS(HttpStatus.OK,"카테고리 버전 조회 성공"),
     DELETE_CARAGE_SUCCESS(HttpStatus.OK,"차량 연식 카테고리 삭제 성공"),
     DELETE_CARNAME_SUCCESS(HttpStatus.OK,"차량 이름 카테고리 삭제 성공"),
     DELETE_CARTYPE_SUCCESS(HttpStatus.OK,"차량 타입 카테고리 삭제 성공"),
     SEND_IMAGE_UPLOAD_SUCCESS(HttpStatus.OK, "이미지 업로드 성공"),
+    SEND_PRESIGNED_UPLOAD_SUCCESS(HttpStatus.OK, "이미지 업로드 URL 발급 성공"),
+    GET_IMAGE_VARIANTS_SUCCESS(HttpStatus.OK, "크기별 이미지 조회 성공"),
     SEND_ARTICLE_SUCCESS(HttpStatus.OK,"게시글 목록 조회 성공"),
     SEND_ARTICLE_DETAIL_SUCCESS(HttpStatus.OK,"게시글 상세 조회 성공"),
+    SEARCH_ARTICLE_SUCCESS(HttpStatus.OK,"게시글 검색 성공"),
     MODIFY_ARTICLE_SUCCESS(HttpStatus.OK,"게시글 수정 성공"),
     DELETE_ARTICLE_SUCCESS(HttpStatus.OK,"게시글 삭제 성공"),
     SEND_COMMENT_SUCCESS(HttpStatus.OK,"댓글 목록 조회 성공"),
@@ -32,6 +36,7 @@ public enum SuccessStatus {
     SEND_KAKAO_ACCESS_TOKEN_SUCCESS(HttpStatus.OK, "카카오 액세스 토큰 발급 성공"),
     SEND_LOGIN_SUCCESS(HttpStatus.OK, "로그인 성공"),
     SEND_ARTICLE_LIKE_SUCCESS(HttpStatus.OK,"게시글 좋아요 성공"),
+    SEND_ARTICLE_LIKE_STATUS_SUCCESS(HttpStatus.OK,"게시글 좋아요 여부 조회 성공"),
     CHECK_EMAIL_SUCCESS(HttpStatus.OK, "이메일 중복 확인 성공"),
     UPDATE_NICKNAME_SUCCESS(HttpStatus.OK, "닉네임 수정 성공"),
     UPDATE_PASSWORD_SUCCESS(HttpStatus.OK, "비밀번호 수정 성공"),
@@ -48,6 +53,7 @@ public enum SuccessStatus {
     CREATE_ARTICLE_SUCCESS(HttpStatus.CREATED, "게시글 등록 성공"),
     CREATE_COMMENT_SUCCESS(HttpStatus.CREATED, "댓글 등록 성공"),
     CREATE_CATEGORY_SUCCESS(HttpStatus.CREATED, "카테고리 등록 성공"),
+    IMPORT_CATEGORY_SUCCESS(HttpStatus.CREATED, "카테고리 일괄 등록 성공"),
 
     ;
 
@@ -0,0 +1,266 @@
+package com.tarbonicar.backend.common.storage;
+
+import com.tarbonicar.backend.common.exception.BadRequestException;
+import com.tarbonicar.backend.common.response.ErrorStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
+
+// 로컬 파일 시스템 저장소 (단일 서버 / 부하 테스트 환경용)
+// 쓰기는 FileChannel 로 임시 파일에 기록한 뒤 원자적으로 이름을 바꾸고, 읽기는 파일 스트림으로 처리
+// 외부 접근은 LocalStorageController(/files/**) 가 담당
+// 목록 조회는 시작 시 한 번 만든 정렬된 키 색인을 사용 (이 클래스를 거치지 않고 추가된 파일은 재시작 후 반영)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalObjectStorage implements ObjectStorage {
+
+    // 쓰는 중인 임시 파일 (목록 조회에서 제외)
+    private static final String TEMP_SUFFIX = ".uploading";
+
+    private final Path root;
+    private final String publicUrl;
+    private final ExecutorService storageExecutor;
+
+    // 저장된 키 (정렬 상태 유지, 쓰기 / 삭제 시 갱신)
+    private final NavigableSet<String> keyIndex = new ConcurrentSkipListSet<>();
+
+    public LocalObjectStorage(
+            @Value("${storage.local.root-dir:./storage}") String rootDir,
+            @Value("${storage.local.public-url:http://localhost:8080/files}") String publicUrl,
+            @Qualifier("storageExecutor") ExecutorService storageExecutor
+    ) throws IOException {
+        this.root = Path.of(rootDir).toAbsolutePath().normalize();
+        this.publicUrl = publicUrl.endsWith("/") ? publicUrl.substring(0, publicUrl.length() - 1) : publicUrl;
+        this.storageExecutor = storageExecutor;
+        Files.createDirectories(root);
+        loadKeyIndex();
+    }
+
+    @Override
+    public CompletableFuture<Void> put(String key, InputStream content, long contentLength, String contentType) {
+        return CompletableFuture.runAsync(() -> {
+            try (ReadableByteChannel source = Channels.newChannel(content)) {
+                write(key, (channel) -> {
+                    // 스트림을 직접 파일 채널로 옮겨 중간 버퍼 복사를 줄임
+                    long position = 0;
+                    while (position < contentLength) {
+                        long transferred = channel.transferFrom(source, position, contentLength - position);
+                        if (transferred <= 0) {
+                            break;
+                        }
+                        position += transferred;
+                    }
+                    if (position != contentLength) {
+                        throw new IOException("업로드 크기 불일치: expected=" + contentLength + ", actual=" + position);
+                    }
+                });
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, storageExecutor);
+    }
+
+    @Override
+    public void put(String key, byte[] content, String contentType) {
+        try {
+            write(key, (channel) -> {
+                ByteBuffer buffer = ByteBuffer.wrap(content);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 파일 크기와 관계없이 필요한 만큼만 읽도록 스트림으로 반환 (호출한 쪽에서 닫음)
+    @Override
+    public InputStream get(String key) {
+        Path path = resolve(key);
+        try {
+            return Files.newInputStream(path);
+        } catch (NoSuchFileException e) {
+            throw new StorageObjectNotFoundException(key);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Optional<StoredObjectMetadata>> head(String key) {
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path)) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        try {
+            return CompletableFuture.completedFuture(Optional.of(new StoredObjectMetadata(Files.size(path), contentType(path))));
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Path path = resolve(key);
+            Files.deleteIfExists(path);
+            keyIndex.remove(indexKey(path));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public int delete(Collection<String> keys) {
+        int failed = 0;
+        for (String key : keys) {
+            try {
+                Path path = resolve(key);
+                Files.deleteIfExists(path);
+                keyIndex.remove(indexKey(path));
+            } catch (IOException | RuntimeException e) {
+                log.warn("파일 삭제 실패: key={}, {}", key, e.getMessage());
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    // 정렬된 키 색인에서 startAfter 이후 maxKeys 개 반환 (S3 ListObjectsV2 와 같은 방식)
+    // maxKeys + 1 개를 찾으면 바로 멈추므로 조회 비용이 전체 파일 수가 아닌 페이지 크기에 비례
+    @Override
+    public StoredObjectPage list(String prefix, String startAfter, int maxKeys) {
+        boolean fromPrefix = (startAfter == null || startAfter.compareTo(prefix) < 0);
+        NavigableSet<String> tail = fromPrefix ? keyIndex.tailSet(prefix, true) : keyIndex.tailSet(startAfter, false);
+
+        List<StoredObject> objects = new ArrayList<>();
+        for (String key : tail) {
+            // prefix 로 시작하는 키는 정렬 순서상 연속되어 있으므로 벗어나면 종료
+            if (!key.startsWith(prefix) || objects.size() > maxKeys) {
+                break;
+            }
+            Optional<StoredObject> object = toStoredObject(key);
+            if (object.isPresent()) {
+                objects.add(object.get());
+            } else {
+                // 색인에는 있지만 이미 삭제된 파일
+                keyIndex.remove(key);
+            }
+        }
+
+        boolean truncated = objects.size() > maxKeys;
+        return new StoredObjectPage(truncated ? objects.subList(0, maxKeys) : objects, truncated);
+    }
+
+    @Override
+    public String url(String key) {
+        return publicUrl + "/" + key;
+    }
+
+    @Override
+    public String keyOf(String url) {
+        String prefix = publicUrl + "/";
+        return (url != null && url.startsWith(prefix)) ? url.substring(prefix.length()) : null;
+    }
+
+    // 파일 제공용 경로 (없으면 StorageObjectNotFoundException)
+    public Path resolveExisting(String key) {
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path) || path.getFileName().toString().endsWith(TEMP_SUFFIX)) {
+            throw new StorageObjectNotFoundException(key);
+        }
+        return path;
+    }
+
+    public String contentType(Path path) {
+        try {
+            String contentType = Files.probeContentType(path);
+            return (contentType == null) ? "application/octet-stream" : contentType;
+        } catch (IOException e) {
+            return "application/octet-stream";
+        }
+    }
+
+    // 루트 밖의 경로 접근 방지
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new BadRequestException(ErrorStatus.INVALID_UPLOAD_KEY_EXCEPTION.getMessage());
+        }
+        return path;
+    }
+
+    // 임시 파일에 쓴 뒤 원자적으로 교체 (읽는 쪽에서 쓰다 만 파일을 보지 않도록)
+    private void write(String key, ChannelWriter writer) throws IOException {
+        Path path = resolve(key);
+        Files.createDirectories(path.getParent());
+        Path temp = path.resolveSibling(path.getFileName() + "." + UUID.randomUUID() + TEMP_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                writer.write(channel);
+                channel.force(false);
+            }
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            keyIndex.add(indexKey(path));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 저장소에 있는 파일로 키 색인 생성 (쓰는 중인 임시 파일 제외)
+    private void loadKeyIndex() throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.filter(Files::isRegularFile)
+                    .filter(path -> !path.getFileName().toString().endsWith(TEMP_SUFFIX))
+                    .map(this::indexKey)
+                    .forEach(keyIndex::add);
+        }
+        log.info("로컬 저장소 키 색인 생성: root={}, keys={}", root, keyIndex.size());
+    }
+
+    private String indexKey(Path path) {
+        return root.relativize(path).toString().replace('\\', '/');
+    }
+
+    private Optional<StoredObject> toStoredObject(String key) {
+        try {
+            Path path = root.resolve(key);
+            return Optional.of(new StoredObject(key, Files.size(path), Files.getLastModifiedTime(path).toInstant()));
+        } catch (IOException e) {
+            // 목록 조회 도중 삭제된 파일
+            return Optional.empty();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChannelWriter {
+        void write(FileChannel channel) throws IOException;
+    }
+}
@@ -0,0 +1,79 @@
+package com.tarbonicar.backend.common.storage;
+
+import com.tarbonicar.backend.common.exception.NotFoundException;
+import com.tarbonicar.backend.common.response.ErrorStatus;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// 로컬 저장소 파일 제공 (storage.type=local 일 때만 등록)
+// Tomcat sendfile 을 지원하면 커널에서 바로 소켓으로 전송하고, 아니면 FileChannel.transferTo 로 전송
+@Hidden
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalStorageController {
+
+    private static final String PATH_PREFIX = "/files/";
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final LocalObjectStorage localObjectStorage;
+
+    @GetMapping(PATH_PREFIX + "**")
+    public void getFile(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length() + PATH_PREFIX.length());
+        // 경로의 %XX 만 복원 ('+' 는 공백이 아닌 문자 그대로 유지)
+        String key = UriUtils.decode(path, StandardCharsets.UTF_8);
+
+        Path file;
+        try {
+            file = localObjectStorage.resolveExisting(key);
+        } catch (StorageObjectNotFoundException e) {
+            throw new NotFoundException(ErrorStatus.NOT_FOUND_UPLOAD_IMAGE_EXCEPTION.getMessage());
+        }
+        long size = Files.size(file);
+
+        response.setContentType(localObjectStorage.contentType(file));
+        response.setContentLengthLong(size);
+        // 키마다 랜덤 문자열이 포함되어 같은 키의 내용이 바뀌지 않으므로 오래 캐시
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable");
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < size) {
+                long transferred = channel.transferTo(position, size - position, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+        }
+    }
+}
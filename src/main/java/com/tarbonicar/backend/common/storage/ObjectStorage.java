@@ -0,0 +1,38 @@
+package com.tarbonicar.backend.common.storage;
+
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+// 이미지 등 업로드 파일 저장소
+// storage.type 설정에 따라 S3/MinIO(s3, 기본값) 또는 로컬 파일 시스템(local) 구현 사용
+// presigned 업로드는 선택 기능이므로 PresignedUploadStorage 로 분리
+public interface ObjectStorage {
+
+    // 스트림 업로드 (전송이 끝날 때까지 호출한 스레드를 점유하지 않음)
+    CompletableFuture<Void> put(String key, InputStream content, long contentLength, String contentType);
+
+    // 작은 파일 업로드 (크기별 이미지 등)
+    void put(String key, byte[] content, String contentType);
+
+    // 파일 읽기 (없으면 StorageObjectNotFoundException)
+    InputStream get(String key);
+
+    // 파일 크기 / 형식 조회 (없으면 empty)
+    CompletableFuture<Optional<StoredObjectMetadata>> head(String key);
+
+    void delete(String key);
+
+    // 여러 파일 삭제 후 삭제하지 못한 개수 반환
+    int delete(Collection<String> keys);
+
+    // prefix 로 시작하는 키를 startAfter 이후부터 키 순서대로 최대 maxKeys 개 조회
+    StoredObjectPage list(String prefix, String startAfter, int maxKeys);
+
+    // 외부에서 접근할 URL
+    String url(String key);
+
+    // 이 저장소의 URL 이면 키, 아니면 null
+    String keyOf(String url);
+}
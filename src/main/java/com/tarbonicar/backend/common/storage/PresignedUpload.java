@@ -0,0 +1,8 @@
+package com.tarbonicar.backend.common.storage;
+
+import java.time.Instant;
+import java.util.Map;
+
+// headers : 업로드 요청에 반드시 포함해야 하는 헤더
+public record PresignedUpload(String url, Map<String, String> headers, Instant expiresAt) {
+}
@@ -0,0 +1,10 @@
+package com.tarbonicar.backend.common.storage;
+
+import java.time.Duration;
+
+// 클라이언트가 저장소에 직접 업로드할 수 있는 저장소 (S3/MinIO)
+// 지원하지 않는 저장소(local)는 구현하지 않으며, presigned 업로드 API 는 이 기능이 있는 저장소에서만 동작
+public interface PresignedUploadStorage {
+
+    PresignedUpload presignPut(String key, String contentType, long contentLength, Duration expiresIn);
+}
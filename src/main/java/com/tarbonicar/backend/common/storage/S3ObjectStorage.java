@@ -0,0 +1,203 @@
+package com.tarbonicar.backend.common.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+// S3 / MinIO 저장소 (MinioConfig 의 클라이언트 사용)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3ObjectStorage implements ObjectStorage, PresignedUploadStorage {
+
+    // DeleteObjects 요청 1회당 최대 키 수
+    private static final int MAX_DELETE_KEYS = 1000;
+
+    private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final S3Presigner s3Presigner;
+    private final ExecutorService storageExecutor;
+
+    @Value("${cloud.aws.s3.bucketName}")
+    private String bucketName;
+
+    @Value("${cloud.aws.s3.domain}")
+    private String domain;
+
+    public S3ObjectStorage(
+            S3Client s3Client,
+            S3AsyncClient s3AsyncClient,
+            S3Presigner s3Presigner,
+            @Qualifier("storageExecutor") ExecutorService storageExecutor
+    ) {
+        this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
+        this.s3Presigner = s3Presigner;
+        this.storageExecutor = storageExecutor;
+    }
+
+    // multipart 기준 크기 이상이면 part 단위로 나누어 업로드
+    @Override
+    public CompletableFuture<Void> put(String key, InputStream content, long contentLength, String contentType) {
+        return s3AsyncClient.putObject(putObjectRequest(key, contentType, contentLength),
+                        AsyncRequestBody.fromInputStream(content, contentLength, storageExecutor))
+                .thenApply(response -> null);
+    }
+
+    @Override
+    public void put(String key, byte[] content, String contentType) {
+        s3Client.putObject(putObjectRequest(key, contentType, content.length), RequestBody.fromBytes(content));
+    }
+
+    @Override
+    public InputStream get(String key) {
+        try {
+            return s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+        } catch (NoSuchKeyException e) {
+            throw new StorageObjectNotFoundException(key);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Optional<StoredObjectMetadata>> head(String key) {
+        HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build();
+
+        return s3AsyncClient.headObject(headObjectRequest)
+                .handle((head, e) -> {
+                    if (e == null) {
+                        long contentLength = (head.contentLength() == null) ? 0 : head.contentLength();
+                        return Optional.of(new StoredObjectMetadata(contentLength, head.contentType()));
+                    }
+                    Throwable cause = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+                    if (cause instanceof NoSuchKeyException
+                            || (cause instanceof S3Exception s3Exception && s3Exception.statusCode() == 404)) {
+                        return Optional.empty();
+                    }
+                    throw new CompletionException(cause);
+                });
+    }
+
+    @Override
+    public void delete(String key) {
+        s3Client.deleteObject(DeleteObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build());
+    }
+
+    @Override
+    public int delete(Collection<String> keys) {
+        List<ObjectIdentifier> objects = keys.stream()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
+
+        int failed = 0;
+        for (int from = 0; from < objects.size(); from += MAX_DELETE_KEYS) {
+            List<ObjectIdentifier> chunk = objects.subList(from, Math.min(from + MAX_DELETE_KEYS, objects.size()));
+            DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder().objects(chunk).quiet(true).build())
+                    .build());
+
+            // quiet 모드에서는 실패한 키만 응답에 포함
+            if (response.hasErrors() && !response.errors().isEmpty()) {
+                log.warn("파일 일괄 삭제 일부 실패: {}건, 첫 오류={} {}", response.errors().size(),
+                        response.errors().get(0).key(), response.errors().get(0).message());
+                failed += response.errors().size();
+            }
+        }
+        return failed;
+    }
+
+    @Override
+    public StoredObjectPage list(String prefix, String startAfter, int maxKeys) {
+        ListObjectsV2Response page = s3Client.listObjectsV2(ListObjectsV2Request.builder()
+                .bucket(bucketName)
+                .prefix(prefix)
+                .startAfter(startAfter)
+                .maxKeys(maxKeys)
+                .build());
+
+        List<StoredObject> objects = new ArrayList<>();
+        page.contents().forEach(object -> objects.add(new StoredObject(object.key(), object.size(), object.lastModified())));
+        return new StoredObjectPage(objects, Boolean.TRUE.equals(page.isTruncated()));
+    }
+
+    @Override
+    public String url(String key) {
+        return domain + "/" + bucketName + "/" + key;
+    }
+
+    @Override
+    public String keyOf(String url) {
+        String prefix = domain + "/" + bucketName + "/";
+        return (url != null && url.startsWith(prefix)) ? url.substring(prefix.length()) : null;
+    }
+
+    // Content-Type, Content-Length 를 서명에 포함하므로 클라이언트는 발급받은 형식/크기 그대로만 업로드 가능
+    @Override
+    public PresignedUpload presignPut(String key, String contentType, long contentLength, Duration expiresIn) {
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(expiresIn)
+                .putObjectRequest(putObjectRequest(key, contentType, contentLength))
+                .build());
+
+        // 서명된 헤더 중 host 는 URL 에 포함되어 있으므로 제외
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+        return new PresignedUpload(presigned.url().toString(), headers, presigned.expiration());
+    }
+
+    private PutObjectRequest putObjectRequest(String key, String contentType, long contentLength) {
+        return PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .acl("public-read")
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .build();
+    }
+}
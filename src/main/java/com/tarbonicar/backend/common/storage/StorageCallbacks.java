@@ -0,0 +1,76 @@
+package com.tarbonicar.backend.common.storage;
+
+import com.tarbonicar.backend.common.exception.ServiceUnavailableException;
+import com.tarbonicar.backend.common.response.ErrorStatus;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+// 저장소 작업이 끝난 뒤의 후처리를 지정한 스레드 풀에서 실행
+// CompletableFuture.handleAsync 는 원본이 나중에 완료될 때 후처리 제출이 거절되면 결과 future 가 완료되지 않으므로,
+// 거절되면 503(TOO_MANY_UPLOADS) 으로 완료
+public final class StorageCallbacks {
+
+    private StorageCallbacks() {
+    }
+
+    // 성공 / 실패 모두 후처리
+    public static <T, R> CompletableFuture<R> handleAsync(CompletableFuture<T> source,
+                                                          BiFunction<? super T, Throwable, ? extends R> callback,
+                                                          Executor executor) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        source.whenComplete((value, error) -> submit(result, () -> callback.apply(value, error), executor));
+        return result;
+    }
+
+    // 성공한 경우에만 후처리 (실패는 그대로 전달)
+    public static <T, R> CompletableFuture<R> thenApplyAsync(CompletableFuture<T> source,
+                                                             Function<? super T, ? extends R> callback,
+                                                             Executor executor) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        source.whenComplete((value, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+                return;
+            }
+            submit(result, () -> callback.apply(value), executor);
+        });
+        return result;
+    }
+
+    // 작업 큐가 가득 차 거절된 작업인지 (원인 예외까지 확인)
+    public static boolean isRejected(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RejectedExecutionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static ServiceUnavailableException tooManyUploads() {
+        return new ServiceUnavailableException(ErrorStatus.TOO_MANY_UPLOADS_EXCEPTION.getMessage());
+    }
+
+    private static <R> void submit(CompletableFuture<R> result, Callback<? extends R> callback, Executor executor) {
+        try {
+            executor.execute(() -> {
+                try {
+                    result.complete(callback.run());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(tooManyUploads());
+        }
+    }
+
+    @FunctionalInterface
+    private interface Callback<R> {
+        R run();
+    }
+}
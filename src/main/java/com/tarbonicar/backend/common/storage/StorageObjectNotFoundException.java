@@ -0,0 +1,8 @@
+package com.tarbonicar.backend.common.storage;
+
+public class StorageObjectNotFoundException extends RuntimeException {
+
+    public StorageObjectNotFoundException(String key) {
+        super("저장소에 파일이 없습니다: " + key);
+    }
+}
@@ -0,0 +1,4 @@
+package com.tarbonicar.backend.common.storage;
+
+public record StoredObjectMetadata(long contentLength, String contentType) {
+}
@@ -0,0 +1,7 @@
+package com.tarbonicar.backend.common.storage;
+
+import java.util.List;
+
+// truncated : 이후에 조회할 키가 더 있는지 여부
+public record StoredObjectPage(List<StoredObject> objects, boolean truncated) {
+}
@@ -0,0 +1,75 @@
+package com.tarbonicar.backend.api.article.dto;
+
+import com.tarbonicar.backend.api.article.entity.SortType;
+import com.tarbonicar.backend.common.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArticleCursorTest {
+
+    @Test
+    void encodeDecodeRoundTrip() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
+        ArticleCursor cursor = new ArticleCursor(SortType.RECENT, false, createdAt.toString(), 42L);
+
+        ArticleCursor decoded = ArticleCursor.decode(cursor.encode());
+
+        assertThat(decoded.getSortType()).isEqualTo(SortType.RECENT);
+        assertThat(decoded.isBackward()).isFalse();
+        assertThat(decoded.getDateTimeKey()).isEqualTo(createdAt);
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    void backwardHotCursorRoundTrip() {
+        ArticleCursor cursor = new ArticleCursor(SortType.HOT, true, "12.5", 7L);
+
+        ArticleCursor decoded = ArticleCursor.decode(cursor.encode());
+
+        assertThat(decoded.getSortType()).isEqualTo(SortType.HOT);
+        assertThat(decoded.isBackward()).isTrue();
+        assertThat(decoded.getDoubleKey()).isEqualTo(12.5);
+        assertThat(decoded.getId()).isEqualTo(7L);
+    }
+
+    @Test
+    void emptyCursorIsFirstPage() {
+        assertThat(ArticleCursor.decode(null)).isNull();
+        assertThat(ArticleCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void rejectsNonBase64Cursor() {
+        assertThatThrownBy(() -> ArticleCursor.decode("!!not-base64!!"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void rejectsTamperedCursor() {
+        // 정렬 기준 값 형식이 맞지 않는 커서
+        assertThatThrownBy(() -> ArticleCursor.decode(encode("N|MOSTLIKED|abc|1")))
+                .isInstanceOf(BadRequestException.class);
+        // 알 수 없는 정렬 기준
+        assertThatThrownBy(() -> ArticleCursor.decode(encode("N|UNKNOWN|1|1")))
+                .isInstanceOf(BadRequestException.class);
+        // 알 수 없는 방향
+        assertThatThrownBy(() -> ArticleCursor.decode(encode("X|MOSTVIEW|1|1")))
+                .isInstanceOf(BadRequestException.class);
+        // ID 가 숫자가 아닌 커서
+        assertThatThrownBy(() -> ArticleCursor.decode(encode("N|MOSTVIEW|1|id")))
+                .isInstanceOf(BadRequestException.class);
+        // 구분자 개수가 다른 커서
+        assertThatThrownBy(() -> ArticleCursor.decode(encode("N|MOSTVIEW|1")))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
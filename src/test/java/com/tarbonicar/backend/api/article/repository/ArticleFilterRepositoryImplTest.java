@@ -0,0 +1,144 @@
+package com.tarbonicar.backend.api.article.repository;
+
+import com.tarbonicar.backend.api.article.cache.ArticleCountCache;
+import com.tarbonicar.backend.api.article.dto.ArticleDetailCountDTO;
+import com.tarbonicar.backend.api.article.entity.Article;
+import com.tarbonicar.backend.api.article.entity.ArticleLike;
+import com.tarbonicar.backend.api.article.entity.ArticleType;
+import com.tarbonicar.backend.api.category.entity.CarAge;
+import com.tarbonicar.backend.api.category.entity.CarName;
+import com.tarbonicar.backend.api.category.entity.CarType;
+import com.tarbonicar.backend.api.member.entity.Member;
+import com.tarbonicar.backend.common.config.querydsl.QueryDSLConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DataJpaTest
+@Import({QueryDSLConfig.class, ArticleCountCache.class})
+class ArticleFilterRepositoryImplTest {
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    private Member writer;
+    private Member liker;
+    private Article article;
+
+    @BeforeEach
+    void setUp() {
+        CarType carType = em.persist(CarType.builder().carType("SUV").build());
+        CarName carName = em.persist(CarName.builder().carName("Tucson").carType(carType).build());
+        CarAge carAge = em.persist(CarAge.builder().carAge(2024).carName(carName).build());
+
+        writer = em.persist(Member.builder().email("writer@test.com").nickname("writer").build());
+        liker = em.persist(Member.builder().email("liker@test.com").nickname("liker").build());
+
+        article = em.persist(Article.builder()
+                .title("title")
+                .content("content")
+                .articleType(ArticleType.REVIEW)
+                .likeCount(1)
+                .member(writer)
+                .carAge(carAge)
+                .build());
+        em.persist(ArticleLike.builder().article(article).member(liker).build());
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void detailSnapshotHasArticleWriterAndCategory() {
+        assertThat(articleRepository.findDetailSnapshotById(article.getId()))
+                .hasValueSatisfying(snapshot -> {
+                    assertThat(snapshot.getTitle()).isEqualTo("title");
+                    assertThat(snapshot.getNickname()).isEqualTo("writer");
+                    assertThat(snapshot.getCarName()).isEqualTo("Tucson");
+                    assertThat(snapshot.getCarAge()).isEqualTo(2024);
+                });
+    }
+
+    @Test
+    void anonymousDetailCountsHaveNoLike() {
+        Optional<ArticleDetailCountDTO> counts = articleRepository.findDetailCountsById(article.getId(), null);
+
+        assertThat(counts).isPresent();
+        assertThat(counts.get().getLikeCount()).isEqualTo(1);
+        assertThat(counts.get().isMyLike()).isFalse();
+    }
+
+    @Test
+    void memberDetailCountsResolveMyLike() {
+        assertThat(articleRepository.findDetailCountsById(article.getId(), liker.getId()))
+                .hasValueSatisfying(counts -> assertThat(counts.isMyLike()).isTrue());
+        assertThat(articleRepository.findDetailCountsById(article.getId(), writer.getId()))
+                .hasValueSatisfying(counts -> assertThat(counts.isMyLike()).isFalse());
+    }
+
+    @Test
+    void missingArticleIsEmpty() {
+        assertThat(articleRepository.findDetailSnapshotById(article.getId() + 1)).isEmpty();
+        assertThat(articleRepository.findDetailCountsById(article.getId() + 1, null)).isEmpty();
+        assertThat(articleRepository.findDetailCountsById(article.getId() + 1, liker.getId())).isEmpty();
+    }
+
+    @Test
+    void likeToggleDoesNotRaiseHotScore() {
+        articleRepository.updateHotScores(Map.of(article.getId(), 100.0));
+
+        // 좋아요 -> 취소 : 같은 시각이면 원래 점수로 돌아감
+        articleRepository.addHotScore(article.getId(), 100.0, 3.0);
+        articleRepository.removeHotScore(article.getId(), 100.0, 3.0, 90.0);
+        em.clear();
+        assertThat(em.find(Article.class, article.getId()).getHotScore()).isCloseTo(100.0, within(1e-9));
+
+        // 남은 가중치보다 많이 빼면 하한으로 제한
+        articleRepository.removeHotScore(article.getId(), 100.0, 3.0, 90.0);
+        em.clear();
+        assertThat(em.find(Article.class, article.getId()).getHotScore()).isEqualTo(90.0);
+    }
+
+    @Test
+    void recalculateLikeCountMatchesLikeRows() {
+        Article inflated = em.persist(Article.builder()
+                .title("inflated")
+                .content("content")
+                .articleType(ArticleType.REVIEW)
+                .likeCount(5)
+                .member(writer)
+                .carAge(article.getCarAge())
+                .build());
+        em.flush();
+
+        articleRepository.recalculateLikeCount(List.of(article.getId(), inflated.getId()));
+        em.clear();
+
+        assertThat(em.find(Article.class, article.getId()).getLikeCount()).isEqualTo(1);
+        assertThat(em.find(Article.class, inflated.getId()).getLikeCount()).isZero();
+    }
+}
@@ -0,0 +1,39 @@
+package com.tarbonicar.backend.api.article.scheduler;
+
+import com.tarbonicar.backend.api.article.repository.ArticleRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CommentCountRepairSchedulerTest {
+
+    private final ArticleRepository articleRepository = mock(ArticleRepository.class);
+    private final CommentCountRepairScheduler scheduler = new CommentCountRepairScheduler(articleRepository);
+
+    @Test
+    void rejectsNonPositiveChunkSize() {
+        ReflectionTestUtils.setField(scheduler, "chunkSize", 0L);
+
+        assertThatThrownBy(scheduler::validateChunkSize).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void repairsInIdRangeChunks() {
+        ReflectionTestUtils.setField(scheduler, "chunkSize", 1000L);
+        assertThatCode(scheduler::validateChunkSize).doesNotThrowAnyException();
+        when(articleRepository.findMaxId()).thenReturn(2500L);
+        when(articleRepository.recalculateCommentCount(anyLong(), anyLong())).thenReturn(0);
+
+        scheduler.repairCommentCount();
+
+        verify(articleRepository).recalculateCommentCount(1L, 1000L);
+        verify(articleRepository).recalculateCommentCount(1001L, 2000L);
+        verify(articleRepository).recalculateCommentCount(2001L, 2500L);
+    }
+}
@@ -0,0 +1,69 @@
+package com.tarbonicar.backend.api.article.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ArticleHotScoreCalculatorTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 6, 1, 9, 0);
+
+    private final ArticleHotScoreCalculator calculator = new ArticleHotScoreCalculator(12, 3, 2, 0.1);
+
+    @Test
+    void boostGrowsByLn2EveryHalfLife() {
+        double diff = calculator.boost(CREATED_AT.plusHours(12)) - calculator.boost(CREATED_AT);
+
+        assertThat(diff).isCloseTo(Math.log(2), within(1e-9));
+    }
+
+    @Test
+    void engagementIsWeightedSum() {
+        assertThat(calculator.engagement(2, 1, 10)).isCloseTo(2 * 3 + 2 + 10 * 0.1, within(1e-9));
+    }
+
+    @Test
+    void newerArticleRanksHigherForSameEngagement() {
+        double boostNow = calculator.boost(CREATED_AT.plusDays(2));
+        double engagement = calculator.engagement(5, 0, 0);
+
+        double older = calculator.rescore(0, CREATED_AT, engagement, boostNow);
+        double newer = calculator.rescore(0, CREATED_AT.plusHours(1), engagement, boostNow);
+
+        assertThat(newer).isGreaterThan(older);
+    }
+
+    @Test
+    void likeNowAddsWeightAtCurrentTime() {
+        // ArticleRepository.addHotScore 와 같은 식으로 증가시킨 점수
+        double created = calculator.boost(CREATED_AT);
+        double boostNow = calculator.boost(CREATED_AT.plusHours(12));
+        double score = boostNow + Math.log(Math.exp(created - boostNow) + calculator.getLikeWeight());
+
+        // 반감기 뒤의 좋아요는 등록 시각 기준 2배의 가중치
+        assertThat(score).isCloseTo(created + Math.log(1 + 2 * calculator.getLikeWeight()), within(1e-9));
+        // 모두 지금 발생한 경우가 상한이므로 보정해도 유지
+        assertThat(calculator.rescore(score, CREATED_AT, calculator.getLikeWeight(), boostNow))
+                .isCloseTo(score, within(1e-9));
+    }
+
+    @Test
+    void rescoreClampsToBounds() {
+        double created = calculator.boost(CREATED_AT);
+        double boostNow = calculator.boost(CREATED_AT.plusDays(1));
+        double engagement = calculator.engagement(1, 1, 0);
+        double lower = created + Math.log1p(engagement);
+        double upper = boostNow + Math.log(Math.exp(created - boostNow) + engagement);
+
+        // 초기화되지 않은 점수 / 하한보다 작은 점수 / 상한보다 큰 점수 (취소된 좋아요, 삭제된 댓글이 남은 경우)
+        assertThat(calculator.rescore(0, CREATED_AT, engagement, boostNow)).isCloseTo(lower, within(1e-9));
+        assertThat(calculator.rescore(lower - 1, CREATED_AT, engagement, boostNow)).isCloseTo(lower, within(1e-9));
+        assertThat(calculator.rescore(upper + 1, CREATED_AT, engagement, boostNow)).isCloseTo(upper, within(1e-9));
+
+        double between = (lower + upper) / 2;
+        assertThat(calculator.rescore(between, CREATED_AT, engagement, boostNow)).isEqualTo(between);
+    }
+}
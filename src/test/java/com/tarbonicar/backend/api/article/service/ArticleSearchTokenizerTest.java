@@ -0,0 +1,47 @@
+package com.tarbonicar.backend.api.article.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleSearchTokenizerTest {
+
+    @Test
+    void indexesUnigramsAndBigrams() {
+        assertThat(ArticleSearchTokenizer.tokenize("소나타를"))
+                .containsExactlyInAnyOrder("소", "나", "타", "를", "소나", "나타", "타를");
+    }
+
+    @Test
+    void queryUsesBigramsForLongerWords() {
+        assertThat(ArticleSearchTokenizer.queryTokens("소나타"))
+                .containsExactlyInAnyOrder("소나", "나타");
+    }
+
+    @Test
+    void oneCharacterQueryMatchesIndexedUnigram() {
+        assertThat(ArticleSearchTokenizer.queryTokens("차")).containsExactly("차");
+        assertThat(ArticleSearchTokenizer.tokenize("중고차 추천")).contains("차");
+    }
+
+    @Test
+    void everyQueryTokenIsIndexedForMatchingText() {
+        String content = "아반떼 N 시승 후기, 연비 15km/L";
+        for (String keyword : new String[]{"아반떼", "n", "시승", "15km"}) {
+            assertThat(ArticleSearchTokenizer.tokenize(content))
+                    .containsAll(ArticleSearchTokenizer.queryTokens(keyword));
+        }
+    }
+
+    @Test
+    void normalizesWidthAndCase() {
+        assertThat(ArticleSearchTokenizer.queryTokens("ＳＵＶ")).containsExactlyInAnyOrder("su", "uv");
+        assertThat(ArticleSearchTokenizer.queryTokens("SuV")).containsExactlyInAnyOrder("su", "uv");
+    }
+
+    @Test
+    void blankTextHasNoTokens() {
+        assertThat(ArticleSearchTokenizer.tokenize(null)).isEmpty();
+        assertThat(ArticleSearchTokenizer.queryTokens("  !? ")).isEmpty();
+    }
+}
@@ -0,0 +1,34 @@
+package com.tarbonicar.backend.api.aws.s3.scheduler;
+
+import com.tarbonicar.backend.api.aws.s3.service.ImageVariantService;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ImageVariantRetrySchedulerTest {
+
+    private final ImageVariantService imageVariantService = mock(ImageVariantService.class);
+    private final ImageVariantRetryScheduler scheduler = new ImageVariantRetryScheduler(imageVariantService);
+
+    @Test
+    void retriesPendingVariants() {
+        scheduler.retryPendingVariants();
+
+        verify(imageVariantService).retryPending();
+    }
+
+    @Test
+    void keepsSchedulingAfterFailure() {
+        doThrow(new IllegalStateException("db down")).when(imageVariantService).retryPending();
+
+        // 예외가 스케줄러 밖으로 나가지 않아 다음 주기에도 실행됨
+        assertThatCode(scheduler::retryPendingVariants).doesNotThrowAnyException();
+        assertThatCode(scheduler::retryPendingVariants).doesNotThrowAnyException();
+
+        verify(imageVariantService, times(2)).retryPending();
+    }
+}
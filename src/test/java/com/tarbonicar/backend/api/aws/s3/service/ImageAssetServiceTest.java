@@ -0,0 +1,26 @@
+package com.tarbonicar.backend.api.aws.s3.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageAssetServiceTest {
+
+    @Test
+    void uploadDirsInFindsEachUploadOnce() {
+        String content = "<p>본문</p>"
+                + "<img src=\"https://cdn.test/bucket/images/AbCdEfGh12345678/AbCdEfGh12345678_2025-01-01_10:00:00.png\">"
+                + "<img src=\"https://old.cdn.test/bucket/images/AbCdEfGh12345678/AbCdEfGh12345678_2025-01-01_10%3A00%3A00.png\">"
+                + "<img src=\"/files/images/ZYXWVUTS87654321/x.jpg\">";
+
+        assertThat(ImageAssetService.uploadDirsIn(content))
+                .containsExactly("images/AbCdEfGh12345678/", "images/ZYXWVUTS87654321/");
+    }
+
+    @Test
+    void uploadDirsInIgnoresOtherPaths() {
+        assertThat(ImageAssetService.uploadDirsIn(null)).isEmpty();
+        assertThat(ImageAssetService.uploadDirsIn("https://example.com/images/short/a.png")).isEmpty();
+        assertThat(ImageAssetService.uploadDirsIn("https://example.com/photos/AbCdEfGh12345678/a.png")).isEmpty();
+    }
+}
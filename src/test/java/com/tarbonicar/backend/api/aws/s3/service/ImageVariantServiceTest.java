@@ -0,0 +1,136 @@
+package com.tarbonicar.backend.api.aws.s3.service;
+
+import com.tarbonicar.backend.api.aws.s3.entity.ImageAsset;
+import com.tarbonicar.backend.api.aws.s3.entity.ImageVariantStatus;
+import com.tarbonicar.backend.api.aws.s3.repository.ImageAssetRepository;
+import com.tarbonicar.backend.common.storage.ObjectStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ImageVariantServiceTest {
+
+    private static final String FILE_KEY = "images/AbCdEfGh12345678/AbCdEfGh12345678_2025-01-01_10:00:00.png";
+
+    private final ObjectStorage objectStorage = mock(ObjectStorage.class);
+    private final ImageAssetRepository imageAssetRepository = mock(ImageAssetRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private ImageVariantService imageVariantService;
+
+    @BeforeEach
+    void setUp() {
+        imageVariantService = new ImageVariantService(
+                objectStorage, imageAssetRepository, new TransactionTemplate(transactionManager), 1, 10);
+        ReflectionTestUtils.setField(imageVariantService, "sizes", List.of(64, 256));
+        ReflectionTestUtils.setField(imageVariantService, "maxPixels", 40_000_000L);
+        ReflectionTestUtils.setField(imageVariantService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(imageVariantService, "jpegQuality", 0.8f);
+        ReflectionTestUtils.setField(imageVariantService, "retryBatchSize", 100);
+        ReflectionTestUtils.setField(imageVariantService, "retryDelaySeconds", 60L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageVariantService.shutdown();
+    }
+
+    @Test
+    void variantKeyReplacesExtension() {
+        assertThat(ImageVariantService.variantKey(FILE_KEY, 256))
+                .isEqualTo("images/AbCdEfGh12345678/AbCdEfGh12345678_2025-01-01_10:00:00_w256.jpg");
+        // 디렉터리 이름의 점은 확장자로 보지 않음
+        assertThat(ImageVariantService.variantKey("images/a.b/photo", 64)).isEqualTo("images/a.b/photo_w64.jpg");
+    }
+
+    @Test
+    void subsamplingKeepsTwiceTheLargestSize() {
+        assertThat(ImageVariantService.subsampling(4000, 3000, 1024)).isEqualTo(1);
+        assertThat(ImageVariantService.subsampling(4000, 1000, 256)).isEqualTo(7);
+        assertThat(ImageVariantService.subsampling(1000, 8000, 256)).isEqualTo(15);
+        assertThat(ImageVariantService.subsampling(100, 100, 256)).isEqualTo(1);
+    }
+
+    @Test
+    void generatesSmallerVariantsFromSubsampledSource() throws IOException {
+        ImageAsset asset = new ImageAsset(FILE_KEY, null);
+        givenImage(asset, 4000, 1000);
+
+        imageVariantService.submit(FILE_KEY);
+
+        verify(transactionManager, timeout(5000)).commit(any());
+        ArgumentCaptor<byte[]> bytes = ArgumentCaptor.forClass(byte[].class);
+        verify(objectStorage).put(eq(ImageVariantService.variantKey(FILE_KEY, 256)), bytes.capture(), eq("image/jpeg"));
+
+        BufferedImage variant = ImageIO.read(new ByteArrayInputStream(bytes.getValue()));
+        assertThat(variant.getWidth()).isEqualTo(256);
+        assertThat(variant.getHeight()).isEqualTo(64);
+
+        assertThat(asset.getStatus()).isEqualTo(ImageVariantStatus.READY);
+        assertThat(asset.getWidth()).isEqualTo(4000);
+        assertThat(asset.getHeight()).isEqualTo(1000);
+        assertThat(asset.getVariantSizes()).isEqualTo("64,256");
+        assertThat(asset.getPlaceholder()).startsWith("data:image/jpeg;base64,");
+    }
+
+    @Test
+    void skipsImagesOverMaxPixels() throws IOException {
+        ReflectionTestUtils.setField(imageVariantService, "maxPixels", 1_000L);
+        ImageAsset asset = new ImageAsset(FILE_KEY, null);
+        givenImage(asset, 100, 100);
+
+        imageVariantService.submit(FILE_KEY);
+
+        verify(transactionManager, timeout(5000)).commit(any());
+        verify(objectStorage, never()).put(anyString(), any(byte[].class), anyString());
+        assertThat(asset.getStatus()).isEqualTo(ImageVariantStatus.FAILED);
+    }
+
+    @Test
+    void retryPendingResubmitsWaitingImages() {
+        ImageAsset asset = new ImageAsset(FILE_KEY, null);
+        asset.ready(10, 10, "", null);
+        when(imageAssetRepository.findFileKeysByStatusAndUpdatedAtBefore(eq(ImageVariantStatus.PENDING), any(), any()))
+                .thenReturn(List.of(FILE_KEY));
+        when(imageAssetRepository.findByFileKey(FILE_KEY)).thenReturn(Optional.of(asset));
+
+        imageVariantService.retryPending();
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(imageAssetRepository).findFileKeysByStatusAndUpdatedAtBefore(eq(ImageVariantStatus.PENDING), any(), pageable.capture());
+        assertThat(pageable.getValue().getPageSize()).isEqualTo(100);
+        verify(imageAssetRepository, timeout(5000)).findByFileKey(FILE_KEY);
+    }
+
+    private void givenImage(ImageAsset asset, int width, int height) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", outputStream);
+        byte[] png = outputStream.toByteArray();
+
+        when(imageAssetRepository.findByFileKey(FILE_KEY)).thenReturn(Optional.of(asset));
+        when(objectStorage.get(FILE_KEY)).thenAnswer(invocation -> new ByteArrayInputStream(png));
+    }
+}
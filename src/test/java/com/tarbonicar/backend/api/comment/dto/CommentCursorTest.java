@@ -0,0 +1,58 @@
+package com.tarbonicar.backend.api.comment.dto;
+
+import com.tarbonicar.backend.common.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommentCursorTest {
+
+    @Test
+    void encodeDecodeRoundTrip() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 4, 5, 6, 7, 123_000_000);
+        CommentCursor cursor = new CommentCursor(true, createdAt, 15L);
+
+        CommentCursor decoded = CommentCursor.decode(cursor.encode());
+
+        assertThat(decoded.isBackward()).isTrue();
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(decoded.getId()).isEqualTo(15L);
+    }
+
+    @Test
+    void emptyCursorIsFirstPage() {
+        assertThat(CommentCursor.decode(null)).isNull();
+        assertThat(CommentCursor.decode("")).isNull();
+    }
+
+    @Test
+    void rejectsNonBase64Cursor() {
+        assertThatThrownBy(() -> CommentCursor.decode("%%%"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void rejectsTamperedCursor() {
+        // 작성일 형식이 아닌 커서
+        assertThatThrownBy(() -> CommentCursor.decode(encode("N|yesterday|1")))
+                .isInstanceOf(BadRequestException.class);
+        // 알 수 없는 방향
+        assertThatThrownBy(() -> CommentCursor.decode(encode("X|2025-01-01T00:00|1")))
+                .isInstanceOf(BadRequestException.class);
+        // ID 가 숫자가 아닌 커서
+        assertThatThrownBy(() -> CommentCursor.decode(encode("N|2025-01-01T00:00|id")))
+                .isInstanceOf(BadRequestException.class);
+        // 구분자 개수가 다른 커서
+        assertThatThrownBy(() -> CommentCursor.decode(encode("N|2025-01-01T00:00")))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,87 @@
+package com.tarbonicar.backend.api.member.controller;
+
+import com.tarbonicar.backend.api.jwt.JwtProvider;
+import com.tarbonicar.backend.api.jwt.MemberPrincipal;
+import com.tarbonicar.backend.api.member.repository.MemberRepository;
+import com.tarbonicar.backend.api.member.service.MemberService;
+import com.tarbonicar.backend.api.member.service.OAuthService;
+import com.tarbonicar.backend.common.config.sescurity.SecurityConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(MemberController.class)
+@Import(SecurityConfig.class)
+class MemberControllerTest {
+
+    private static final String TOKEN = "access-token";
+    private static final String EMAIL = "member@test.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private MemberService memberService;
+
+    @MockitoBean
+    private OAuthService oAuthService;
+
+    @MockitoBean
+    private MemberRepository memberRepository;
+
+    @MockitoBean
+    private JwtProvider jwtProvider;
+
+    // @EnableJpaAuditing 이 붙은 애플리케이션 클래스를 WebMvcTest 에서 로드하기 위해 필요
+    @MockitoBean
+    private JpaMetamodelMappingContext jpaMetamodelMappingContext;
+
+    @Test
+    void profileImageUploadCompletesOnAsyncDispatch() throws Exception {
+        MemberPrincipal principal = new MemberPrincipal(1L, EMAIL, "member", 0L, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        given(jwtProvider.authenticate(TOKEN))
+                .willReturn(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        given(memberService.updateProfileImage(eq(EMAIL), any()))
+                .willReturn(CompletableFuture.completedFuture("https://cdn.test/images/profile/a.png"));
+
+        MockMultipartFile file = new MockMultipartFile("file", "a.png", "image/png", new byte[]{1, 2, 3});
+        MvcResult started = mockMvc.perform(multipart("/api/v1/member/profile-image")
+                        .file(file)
+                        .header("Authorization", "Bearer " + TOKEN))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // 재디스패치에는 Authorization 헤더로 다시 인증하지 않아도 응답이 내려가야 함
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.imageUrl").value("https://cdn.test/images/profile/a.png"));
+    }
+
+    @Test
+    void profileImageUploadRequiresAuthentication() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "a.png", "image/png", new byte[]{1, 2, 3});
+
+        mockMvc.perform(multipart("/api/v1/member/profile-image").file(file))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,82 @@
+package com.tarbonicar.backend.common.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalObjectStorageTest {
+
+    @TempDir
+    Path root;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void listsPagesInKeyOrder() throws IOException {
+        // 시작 전에 있던 파일도 색인에 포함
+        Files.createDirectories(root.resolve("images/b"));
+        Files.writeString(root.resolve("images/b/1.jpg"), "x");
+        Files.writeString(root.resolve("other.txt"), "x");
+
+        LocalObjectStorage storage = new LocalObjectStorage(root.toString(), "http://localhost/files", executor);
+        storage.put("images/a/1.jpg", new byte[]{1}, "image/jpeg");
+        storage.put("images/a/2.jpg", new byte[]{1}, "image/jpeg");
+        storage.put("images/a-x/1.jpg", new byte[]{1}, "image/jpeg");
+
+        List<String> keys = new ArrayList<>();
+        String startAfter = null;
+        StoredObjectPage page;
+        do {
+            page = storage.list("images/", startAfter, 2);
+            page.objects().forEach(object -> keys.add(object.key()));
+            startAfter = keys.get(keys.size() - 1);
+        } while (page.truncated());
+
+        assertThat(keys).containsExactly("images/a-x/1.jpg", "images/a/1.jpg", "images/a/2.jpg", "images/b/1.jpg");
+    }
+
+    @Test
+    void skipsDeletedFiles() throws IOException {
+        LocalObjectStorage storage = new LocalObjectStorage(root.toString(), "http://localhost/files", executor);
+        storage.put("images/a/1.jpg", new byte[]{1}, "image/jpeg");
+        storage.put("images/b/1.jpg", new byte[]{1}, "image/jpeg");
+        storage.put("images/c/1.jpg", new byte[]{1}, "image/jpeg");
+
+        storage.delete("images/a/1.jpg");
+        // 저장소를 거치지 않고 삭제된 파일
+        Files.delete(root.resolve("images/c/1.jpg"));
+
+        StoredObjectPage page = storage.list("images/", null, 10);
+
+        assertThat(page.objects()).extracting(StoredObject::key).containsExactly("images/b/1.jpg");
+        assertThat(page.truncated()).isFalse();
+    }
+
+    @Test
+    void readsStoredFileAsStream() throws IOException {
+        LocalObjectStorage storage = new LocalObjectStorage(root.toString(), "http://localhost/files", executor);
+        storage.put("images/a/1.jpg", new byte[]{1, 2, 3}, "image/jpeg");
+
+        try (InputStream content = storage.get("images/a/1.jpg")) {
+            assertThat(content.readAllBytes()).containsExactly(1, 2, 3);
+        }
+        assertThatThrownBy(() -> storage.get("images/missing.jpg")).isInstanceOf(StorageObjectNotFoundException.class);
+    }
+}
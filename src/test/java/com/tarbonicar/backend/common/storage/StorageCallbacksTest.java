@@ -0,0 +1,74 @@
+package com.tarbonicar.backend.common.storage;
+
+import com.tarbonicar.backend.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StorageCallbacksTest {
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            1, 1, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.AbortPolicy());
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void runsCallbackOnExecutor() {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        CompletableFuture<String> result = StorageCallbacks.thenApplyAsync(source,
+                value -> value + ":" + Thread.currentThread().getName().startsWith("pool"), executor);
+
+        source.complete("ok");
+
+        assertThat(result.orTimeout(5, TimeUnit.SECONDS).join()).isEqualTo("ok:true");
+    }
+
+    @Test
+    void completesWith503WhenQueueIsFull() {
+        // 스레드 1개와 큐 1칸을 모두 채움
+        executor.execute(this::awaitRelease);
+        executor.execute(() -> { });
+
+        CompletableFuture<String> source = new CompletableFuture<>();
+        CompletableFuture<Integer> result = StorageCallbacks.handleAsync(source, (value, error) -> value.length(), executor);
+        source.complete("late");
+
+        assertThat(result)
+                .failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(Exception.class)
+                .withCauseInstanceOf(ServiceUnavailableException.class);
+    }
+
+    @Test
+    void passesFailureThroughWithoutCallback() {
+        CompletableFuture<Integer> result = StorageCallbacks.thenApplyAsync(
+                CompletableFuture.<String>failedFuture(new IllegalStateException("upload failed")), String::length, executor);
+
+        assertThat(result)
+                .failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(Exception.class)
+                .withRootCauseInstanceOf(IllegalStateException.class);
+        assertThat(executor.getCompletedTaskCount()).isZero();
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}